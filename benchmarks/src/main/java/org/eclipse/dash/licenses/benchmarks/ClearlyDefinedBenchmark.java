@@ -0,0 +1,82 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedContentData;
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedResponseReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reading a ClearlyDefined response into {@link ClearlyDefinedContentData}
+ * instances, and querying those instances the way that
+ * <code>ClearlyDefinedSupport.isAccepted</code> does. Run with
+ * <code>-prof gc</code> to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClearlyDefinedBenchmark {
+
+	@Param({ "10000" })
+	int entries;
+
+	@Param({ "20" })
+	int files;
+
+	byte[] response;
+	List<ClearlyDefinedContentData> results;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		response = Definitions.generateBytes(entries, files);
+		results = read();
+	}
+
+	@Benchmark
+	public List<ClearlyDefinedContentData> readResponse() {
+		return read();
+	}
+
+	@Benchmark
+	public void queryResults(Blackhole blackhole) {
+		for (ClearlyDefinedContentData data : results) {
+			blackhole.consume(data.getLicenseScore());
+			blackhole.consume(data.getLicense());
+			data.discoveredLicenses().forEach(blackhole::consume);
+		}
+	}
+
+	private List<ClearlyDefinedContentData> read() {
+		List<ClearlyDefinedContentData> results = new ArrayList<>(entries);
+		new ClearlyDefinedResponseReader().read(new ByteArrayInputStream(response),
+				(id, each) -> results.add(new ClearlyDefinedContentData(id, each)));
+		return results;
+	}
+}
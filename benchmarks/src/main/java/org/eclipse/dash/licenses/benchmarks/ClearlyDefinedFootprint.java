@@ -0,0 +1,93 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedContentData;
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedResponseReader;
+import org.eclipse.dash.licenses.util.JsonUtils;
+
+/**
+ * Measures how much heap is retained by the results of ClearlyDefined queries.
+ * JMH measures time and allocation, not retained size, so this is a plain
+ * program that builds the results, forces garbage collection, and reports the
+ * difference in used heap.
+ *
+ * <p>
+ * Three representations are measured:
+ * <ul>
+ * <li><code>tree</code>: the complete JSON tree of each definition (what we
+ * used to retain);</li>
+ * <li><code>pruned</code>: the JSON tree with only the values that we use (as
+ * read by {@link ClearlyDefinedResponseReader});</li>
+ * <li><code>compact</code>: instances of {@link ClearlyDefinedContentData}.</li>
+ * </ul>
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.eclipse.dash.licenses.benchmarks.ClearlyDefinedFootprint [entries] [files]
+ * </pre>
+ */
+public class ClearlyDefinedFootprint {
+
+	public static void main(String[] args) {
+		int entries = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+		int files = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+		byte[] response = Definitions.generateBytes(entries, files);
+		System.out.printf("Response with %,d definitions (%,d files each): %,d bytes%n", entries, files,
+				response.length);
+
+		report("tree", entries, () -> {
+			List<Object> results = new ArrayList<>();
+			JsonUtils.readJson(new ByteArrayInputStream(response)).forEach((id, each) -> results.add(each));
+			return results;
+		});
+
+		report("pruned", entries, () -> {
+			List<Object> results = new ArrayList<>();
+			new ClearlyDefinedResponseReader().read(new ByteArrayInputStream(response),
+					(id, each) -> results.add(each));
+			return results;
+		});
+
+		report("compact", entries, () -> {
+			List<Object> results = new ArrayList<>();
+			new ClearlyDefinedResponseReader().read(new ByteArrayInputStream(response),
+					(id, each) -> results.add(new ClearlyDefinedContentData(id, each)));
+			return results;
+		});
+	}
+
+	private static void report(String name, int entries, Supplier<List<Object>> builder) {
+		long before = usedHeap();
+		List<Object> results = builder.get();
+		long after = usedHeap();
+
+		System.out.printf("%-8s retained %,12d bytes (%,8d bytes per entry)%n", name, after - before,
+				(after - before) / entries);
+
+		// Keep the results reachable until after we've measured.
+		if (results.size() != entries)
+			throw new IllegalStateException();
+	}
+
+	private static long usedHeap() {
+		var memory = ManagementFactory.getMemoryMXBean();
+		for (int index = 0; index < 5; index++) {
+			System.gc();
+		}
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,84 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.dash.licenses.ContentId;
+import org.eclipse.dash.licenses.IContentId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Using content ids as keys, the way that the license checker does. The ids
+ * are parsed once, and every id appears twice (as if it were found in two
+ * different files). Run with <code>-prof gc</code> to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentIdBenchmark {
+
+	@Param({ "10000", "100000" })
+	int count;
+
+	List<IContentId> ids;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		var strings = Inputs.clearlyDefinedIds(count);
+		ids = new ArrayList<>(count * 2);
+		for (int pass = 0; pass < 2; pass++) {
+			strings.forEach(id -> ids.add(ContentId.getContentId(id)));
+		}
+	}
+
+	@Benchmark
+	public long distinct() {
+		return ids.stream().distinct().count();
+	}
+
+	@Benchmark
+	public Map<IContentId, IContentId> toMap() {
+		return ids.stream().collect(Collectors.toMap(Function.identity(), Function.identity(), (a, b) -> a));
+	}
+
+	@Benchmark
+	public int lookup() {
+		Map<IContentId, Integer> map = new HashMap<>();
+		for (IContentId id : ids) {
+			map.merge(id, 1, Integer::sum);
+		}
+		int total = 0;
+		for (IContentId id : ids) {
+			total += map.get(id);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,107 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dash.licenses.ClearlyDefinedIdParser;
+import org.eclipse.dash.licenses.ContentIdParser;
+import org.eclipse.dash.licenses.GolangIdParser;
+import org.eclipse.dash.licenses.MavenIdParser;
+import org.eclipse.dash.licenses.NpmJsIdParser;
+import org.eclipse.dash.licenses.PackageUrlIdParser;
+import org.eclipse.dash.licenses.cli.FlatFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing content ids. Each benchmark parses the full list of ids in one of
+ * the formats that we support with the corresponding parser; the
+ * <code>flatFile</code> benchmark reads a mix of all of the formats the way
+ * that the command line does (i.e., each line is offered to each parser in
+ * turn until one of them accepts it).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentIdParserBenchmark {
+
+	@Param({ "10000", "100000" })
+	int count;
+
+	List<String> mavenIds;
+	List<String> npmIds;
+	List<String> golangIds;
+	List<String> clearlyDefinedIds;
+	List<String> packageUrls;
+	String flatFile;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		mavenIds = Inputs.mavenIds(count);
+		npmIds = Inputs.npmIds(count);
+		golangIds = Inputs.golangIds(count);
+		clearlyDefinedIds = Inputs.clearlyDefinedIds(count);
+		packageUrls = Inputs.packageUrls(count);
+		flatFile = Inputs.flatFile(count);
+	}
+
+	private void parse(ContentIdParser parser, List<String> ids, Blackhole blackhole) {
+		for (String id : ids) {
+			blackhole.consume(parser.parseId(id));
+		}
+	}
+
+	@Benchmark
+	public void maven(Blackhole blackhole) {
+		parse(new MavenIdParser(), mavenIds, blackhole);
+	}
+
+	@Benchmark
+	public void npmjs(Blackhole blackhole) {
+		parse(new NpmJsIdParser(), npmIds, blackhole);
+	}
+
+	@Benchmark
+	public void golang(Blackhole blackhole) {
+		parse(new GolangIdParser(), golangIds, blackhole);
+	}
+
+	@Benchmark
+	public void clearlyDefined(Blackhole blackhole) {
+		parse(new ClearlyDefinedIdParser(), clearlyDefinedIds, blackhole);
+	}
+
+	@Benchmark
+	public void packageUrl(Blackhole blackhole) {
+		parse(new PackageUrlIdParser(), packageUrls, blackhole);
+	}
+
+	@Benchmark
+	public Object flatFile() {
+		return new FlatFileReader(new StringReader(flatFile)).getContentIds();
+	}
+}
@@ -0,0 +1,158 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Generates responses that look like those answered by the ClearlyDefined
+ * definitions API. The shape follows real definitions (including a list of
+ * files with hashes and attributions, which accounts for most of the size of
+ * a real response); the values are random, but repeatable.
+ */
+public final class Definitions {
+
+	// @formatter:off
+	static final String[] LICENSES = {
+			"MIT", "Apache-2.0", "BSD-3-Clause", "BSD-2-Clause", "ISC", "EPL-2.0",
+			"MIT AND BSD-3-Clause", "Apache-2.0 OR MIT", "GPL-2.0-only", "NOASSERTION" };
+	// @formatter:on
+
+	private Definitions() {
+	}
+
+	/**
+	 * Answer the id of the n-th generated definition.
+	 */
+	public static String getId(int index) {
+		return "npm/npmjs/-/package-" + index + "/1.0." + (index % 17);
+	}
+
+	/**
+	 * Generate a response with the specified number of definitions.
+	 *
+	 * @param count the number of definitions
+	 * @param files the number of files listed in each definition
+	 * @return the response as a JSON object
+	 */
+	public static JsonObject generate(int count, int files) {
+		Random random = new Random(42);
+		JsonObjectBuilder response = Json.createObjectBuilder();
+		for (int index = 0; index < count; index++) {
+			response.add(getId(index), generateDefinition(random, index, files));
+		}
+		return response.build();
+	}
+
+	/**
+	 * Generate a response with the specified number of definitions as UTF-8
+	 * encoded bytes.
+	 */
+	public static byte[] generateBytes(int count, int files) {
+		return generate(count, files).toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static JsonObject generateDefinition(Random random, int index, int files) {
+		String name = "package-" + index;
+		String revision = "1.0." + (index % 17);
+		String license = LICENSES[random.nextInt(LICENSES.length)];
+		String commit = Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+
+		JsonArrayBuilder fileList = Json.createArrayBuilder();
+		for (int file = 0; file < files; file++) {
+			// @formatter:off
+			fileList.add(Json.createObjectBuilder()
+				.add("path", "package/lib/file-" + file + ".js")
+				.add("hashes", Json.createObjectBuilder()
+					.add("sha1", Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong()))
+					.add("sha256", Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong())
+							+ Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong())))
+				.add("license", license)
+				.add("attributions", Json.createArrayBuilder()
+					.add("Copyright (c) " + (2000 + random.nextInt(25)) + " Contributor " + random.nextInt(1000))));
+			// @formatter:on
+		}
+
+		int total = random.nextInt(101);
+
+		// @formatter:off
+		return Json.createObjectBuilder()
+			.add("_id", getId(index))
+			.add("_meta", Json.createObjectBuilder()
+				.add("schemaVersion", "1.6.1")
+				.add("updated", "2024-04-01T16:18:28.890Z"))
+			.add("coordinates", Json.createObjectBuilder()
+				.add("name", name)
+				.add("provider", "npmjs")
+				.add("revision", revision)
+				.add("type", "npm"))
+			.add("described", Json.createObjectBuilder()
+				.add("files", files)
+				.add("hashes", Json.createObjectBuilder()
+					.add("sha1", Long.toHexString(random.nextLong()))
+					.add("sha256", Long.toHexString(random.nextLong())))
+				.add("releaseDate", "2019-07-11")
+				.add("sourceLocation", Json.createObjectBuilder()
+					.add("type", "git")
+					.add("provider", "github")
+					.add("namespace", "contributor-" + index)
+					.add("name", name)
+					.add("revision", commit)
+					.add("url", "https://github.com/contributor-" + index + "/" + name + "/tree/" + commit))
+				.add("tools", Json.createArrayBuilder()
+					.add("clearlydefined/1.3.4")
+					.add("licensee/9.10.1")
+					.add("scancode/3.2.2"))
+				.add("urls", Json.createObjectBuilder()
+					.add("download", "https://registry.npmjs.com/" + name + "/-/" + name + "-" + revision + ".tgz")
+					.add("registry", "https://npmjs.com/package/" + name)
+					.add("version", "https://npmjs.com/package/" + name + "/v/" + revision)))
+			.add("files", fileList)
+			.add("licensed", Json.createObjectBuilder()
+				.add("declared", license)
+				.add("facets", Json.createObjectBuilder()
+					.add("core", Json.createObjectBuilder()
+						.add("attribution", Json.createObjectBuilder()
+							.add("parties", Json.createArrayBuilder()
+								.add("Copyright (c) Contributor " + index))
+							.add("unknown", random.nextInt(5)))
+						.add("discovered", Json.createObjectBuilder()
+							.add("expressions", Json.createArrayBuilder()
+								.add(license)
+								.add(LICENSES[random.nextInt(LICENSES.length)]))
+							.add("unknown", random.nextInt(5)))
+						.add("files", files)))
+				.add("score", score(total))
+				.add("toolScore", score(total)))
+			.add("scores", Json.createObjectBuilder()
+				.add("effective", total)
+				.add("tool", total))
+			.build();
+		// @formatter:on
+	}
+
+	private static JsonObjectBuilder score(int total) {
+		// @formatter:off
+		return Json.createObjectBuilder()
+			.add("consistency", 15)
+			.add("declared", 30)
+			.add("discovered", Math.max(0, total - 60))
+			.add("spdx", 15)
+			.add("texts", 15)
+			.add("total", total);
+		// @formatter:on
+	}
+}
@@ -0,0 +1,277 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates realistic (but repeatable) input for the benchmarks: content ids in
+ * the various formats that the tool accepts, SPDX expressions, and lock files
+ * for the JavaScript package managers.
+ */
+public final class Inputs {
+
+	// @formatter:off
+	static final String[] LICENSES = {
+			"MIT", "Apache-2.0", "BSD-3-Clause", "BSD-2-Clause", "ISC", "EPL-2.0",
+			"EPL-1.0", "GPL-2.0-only", "LGPL-2.1-or-later", "CC0-1.0", "0BSD", "Unlicense" };
+	// @formatter:on
+
+	private Inputs() {
+	}
+
+	private static String version(Random random) {
+		return random.nextInt(10) + "." + random.nextInt(30) + "." + random.nextInt(100);
+	}
+
+	private static String scope(Random random) {
+		return "@scope-" + random.nextInt(200);
+	}
+
+	/**
+	 * Maven coordinates as printed by <code>mvn dependency:list</code> (e.g.,
+	 * <code>org.group3:artifact-42:jar:1.2.3:compile</code>).
+	 */
+	public static List<String> mavenIds(int count) {
+		Random random = new Random(1);
+		List<String> ids = new ArrayList<>(count);
+		for (int index = 0; index < count; index++) {
+			ids.add("   org.group" + random.nextInt(500) + ".sub:artifact-" + index + ":jar:" + version(random)
+					+ ":compile");
+		}
+		return ids;
+	}
+
+	/**
+	 * npm ids of the form <code>[@scope/]name@version</code>.
+	 */
+	public static List<String> npmIds(int count) {
+		Random random = new Random(2);
+		List<String> ids = new ArrayList<>(count);
+		for (int index = 0; index < count; index++) {
+			String name = "package-" + index;
+			if (random.nextInt(3) == 0)
+				name = scope(random) + "/" + name;
+			ids.add(name + "@" + version(random));
+		}
+		return ids;
+	}
+
+	/**
+	 * Lines from a <code>go.sum</code> file.
+	 */
+	public static List<String> golangIds(int count) {
+		Random random = new Random(3);
+		List<String> ids = new ArrayList<>(count);
+		for (int index = 0; index < count; index++) {
+			String suffix = random.nextBoolean() ? "/go.mod" : "";
+			ids.add("github.com/org-" + random.nextInt(500) + "/module-" + index + " v" + version(random) + suffix
+					+ " h1:" + Long.toHexString(random.nextLong()) + "=");
+		}
+		return ids;
+	}
+
+	/**
+	 * ClearlyDefined ids of the form <code>type/source/namespace/name/version</code>.
+	 */
+	public static List<String> clearlyDefinedIds(int count) {
+		Random random = new Random(4);
+		List<String> ids = new ArrayList<>(count);
+		for (int index = 0; index < count; index++) {
+			switch (random.nextInt(3)) {
+			case 0:
+				ids.add("npm/npmjs/-/package-" + index + "/" + version(random));
+				break;
+			case 1:
+				ids.add("maven/mavencentral/org.group" + random.nextInt(500) + "/artifact-" + index + "/"
+						+ version(random));
+				break;
+			default:
+				ids.add("pypi/pypi/-/module-" + index + "/" + version(random));
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Package URLs (e.g., <code>pkg:npm/%40scope/name@1.2.3</code>).
+	 */
+	public static List<String> packageUrls(int count) {
+		Random random = new Random(5);
+		List<String> ids = new ArrayList<>(count);
+		for (int index = 0; index < count; index++) {
+			if (random.nextBoolean()) {
+				ids.add("pkg:maven/org.group" + random.nextInt(500) + "/artifact-" + index + "@" + version(random));
+			} else {
+				ids.add("pkg:npm/%40scope-" + random.nextInt(200) + "/package-" + index + "@" + version(random));
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * The content of a flat file with a mix of all of the formats that we
+	 * support, along with the occasional comment and blank line.
+	 */
+	public static String flatFile(int count) {
+		List<List<String>> sources = List.of(mavenIds(count), npmIds(count), golangIds(count),
+				clearlyDefinedIds(count), packageUrls(count));
+		Random random = new Random(6);
+		StringBuilder builder = new StringBuilder();
+		builder.append("The following files have been resolved:\n");
+		for (int index = 0; index < count; index++) {
+			if (index % 100 == 0)
+				builder.append("# comment\n\n");
+			builder.append(sources.get(random.nextInt(sources.size())).get(index)).append('\n');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * SPDX expressions: mostly single identifiers, with a mix of conjunctions,
+	 * disjunctions, and groups.
+	 */
+	public static List<String> spdxExpressions(int count) {
+		Random random = new Random(7);
+		List<String> expressions = new ArrayList<>(count);
+		for (int index = 0; index < count; index++) {
+			String left = LICENSES[random.nextInt(LICENSES.length)];
+			String right = LICENSES[random.nextInt(LICENSES.length)];
+			String other = LICENSES[random.nextInt(LICENSES.length)];
+			switch (random.nextInt(5)) {
+			case 0:
+				expressions.add(left + " AND " + right);
+				break;
+			case 1:
+				expressions.add(left + " OR " + right);
+				break;
+			case 2:
+				expressions.add("(" + left + " OR " + right + ") AND " + other);
+				break;
+			default:
+				expressions.add(left);
+			}
+		}
+		return expressions;
+	}
+
+	/**
+	 * A <code>package-lock.json</code> (lockfile version 3) with workspaces, some
+	 * of which are linked, and nested dependencies.
+	 */
+	public static String packageLock(int count) {
+		Random random = new Random(8);
+		StringBuilder builder = new StringBuilder();
+		builder.append("{\n  \"name\": \"workspace-root\",\n  \"lockfileVersion\": 3,\n  \"requires\": true,\n");
+		builder.append("  \"packages\": {\n");
+		builder.append("    \"\": {\n      \"name\": \"workspace-root\",\n");
+		builder.append("      \"workspaces\": [\"packages/*\", \"examples/*\", \"dev-packages/*\"]\n    }");
+		for (int index = 0; index < count; index++) {
+			builder.append(",\n");
+			int kind = random.nextInt(20);
+			if (kind == 0) {
+				String workspace = "packages/package-" + index;
+				builder.append("    \"node_modules/@workspace/package-").append(index).append("\": {\n");
+				builder.append("      \"resolved\": \"").append(workspace).append("\",\n");
+				builder.append("      \"link\": true\n    },\n");
+				builder.append("    \"").append(workspace).append("\": {\n");
+				builder.append("      \"name\": \"@workspace/package-").append(index).append("\",\n");
+				builder.append("      \"version\": \"").append(version(random)).append("\"\n    }");
+			} else {
+				String name = "package-" + index;
+				if (random.nextInt(3) == 0)
+					name = scope(random) + "/" + name;
+				String path = "node_modules/" + name;
+				if (kind == 1)
+					path = "node_modules/parent-" + random.nextInt(1000) + "/" + path;
+				String version = version(random);
+				builder.append("    \"").append(path).append("\": {\n");
+				builder.append("      \"version\": \"").append(version).append("\",\n");
+				builder.append("      \"resolved\": \"https://registry.npmjs.org/").append(name).append("/-/")
+						.append(name.replaceAll(".*/", "")).append("-").append(version).append(".tgz\",\n");
+				builder.append("      \"integrity\": \"sha512-").append(Long.toHexString(random.nextLong()))
+						.append("==\",\n");
+				builder.append("      \"dev\": ").append(random.nextBoolean()).append(",\n");
+				builder.append("      \"license\": \"").append(LICENSES[random.nextInt(LICENSES.length)])
+						.append("\",\n");
+				builder.append("      \"dependencies\": {\n        \"package-")
+						.append(random.nextInt(count)).append("\": \"^1.0.0\"\n      }\n    }");
+			}
+		}
+		builder.append("\n  }\n}\n");
+		return builder.toString();
+	}
+
+	/**
+	 * A <code>yarn.lock</code> file (yarn 1 format).
+	 */
+	public static String yarnLock(int count) {
+		Random random = new Random(9);
+		StringBuilder builder = new StringBuilder();
+		builder.append("# THIS IS AN AUTOGENERATED FILE. DO NOT EDIT THIS FILE DIRECTLY.\n");
+		builder.append("# yarn lockfile v1\n\n");
+		for (int index = 0; index < count; index++) {
+			String name = "package-" + index;
+			if (random.nextInt(3) == 0)
+				name = scope(random) + "/" + name;
+			String version = version(random);
+			builder.append('\n');
+			builder.append('"').append(name).append("@^").append(version).append("\", \"").append(name)
+					.append("@~").append(version).append("\":\n");
+			builder.append("  version \"").append(version).append("\"\n");
+			builder.append("  resolved \"https://registry.yarnpkg.com/").append(name).append("/-/")
+					.append(name.replaceAll(".*/", "")).append("-").append(version).append(".tgz#")
+					.append(Long.toHexString(random.nextLong())).append("\"\n");
+			builder.append("  integrity sha512-").append(Long.toHexString(random.nextLong())).append("==\n");
+			if (random.nextBoolean()) {
+				builder.append("  dependencies:\n");
+				builder.append("    package-").append(random.nextInt(count)).append(" \"^1.0.0\"\n");
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * A <code>pnpm-lock.yaml</code> file (lockfile version 9).
+	 */
+	public static String pnpmLock(int count) {
+		Random random = new Random(10);
+		StringBuilder builder = new StringBuilder();
+		builder.append("lockfileVersion: '9.0'\n\n");
+		builder.append("settings:\n  autoInstallPeers: true\n  excludeLinksFromLockfile: false\n\n");
+		builder.append("importers:\n\n  .:\n    dependencies:\n");
+		builder.append("      package-0:\n        specifier: ^1.0.0\n        version: 1.0.0\n\n");
+		List<String> keys = new ArrayList<>(count);
+		builder.append("packages:\n");
+		for (int index = 0; index < count; index++) {
+			String name = "package-" + index;
+			if (random.nextInt(3) == 0)
+				name = scope(random) + "/" + name;
+			String key = name + "@" + version(random);
+			keys.add(key);
+			builder.append("\n  '").append(key).append("':\n");
+			builder.append("    resolution: {integrity: sha512-").append(Long.toHexString(random.nextLong()))
+					.append("==}\n");
+			builder.append("    engines: {node: '>=12'}\n");
+		}
+		builder.append("\nsnapshots:\n");
+		for (String key : keys) {
+			if (random.nextBoolean()) {
+				builder.append("\n  '").append(key).append("':\n");
+				builder.append("    dependencies:\n      package-").append(random.nextInt(count)).append(": 1.0.0\n");
+			} else {
+				builder.append("\n  '").append(key).append("': {}\n");
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,72 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dash.licenses.cli.PackageLockFileReader;
+import org.eclipse.dash.licenses.cli.PnpmPackageLockFileReader;
+import org.eclipse.dash.licenses.cli.YarnLockFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading the content ids from the lock files of the JavaScript package
+ * managers. The lock files are generated in memory, so the benchmarks measure
+ * parsing and extraction, not I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LockFileBenchmark {
+
+	@Param({ "10000", "100000" })
+	int count;
+
+	String packageLock;
+	String yarnLock;
+	String pnpmLock;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		packageLock = Inputs.packageLock(count);
+		yarnLock = Inputs.yarnLock(count);
+		pnpmLock = Inputs.pnpmLock(count);
+	}
+
+	@Benchmark
+	public Object packageLock() {
+		return new PackageLockFileReader(new StringReader(packageLock)).getContentIds();
+	}
+
+	@Benchmark
+	public Object yarnLock() {
+		return new YarnLockFileReader(new StringReader(yarnLock)).getContentIds();
+	}
+
+	@Benchmark
+	public Object pnpmLock() {
+		return new PnpmPackageLockFileReader(new StringReader(pnpmLock)).getContentIds();
+	}
+}
@@ -0,0 +1,92 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dash.licenses.cli.PackageLockFileReader;
+import org.eclipse.dash.licenses.util.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Reading a real-world <code>package-lock.json</code> with workspaces (from
+ * the Eclipse Theia project), scaled up by making copies of all of the
+ * packages. Every package is checked against the workspace globs, so this
+ * exercises the workspace matching along with the reading.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackageLockWorkspaceBenchmark {
+
+	static final String THEIA = "/test_data_package-lock-v3-theia.json";
+
+	@Param({ "1", "10", "50" })
+	int scale;
+
+	String packageLock;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		JsonObject json;
+		try (InputStream input = PackageLockWorkspaceBenchmark.class.getResourceAsStream(THEIA)) {
+			json = JsonUtils.readJson(input);
+		}
+
+		/*
+		 * Each copy gets a suffix on its keys (and on the targets of its links), so
+		 * the workspace packages in the copies are still in the workspaces.
+		 */
+		JsonObject packages = json.getJsonObject("packages");
+		JsonObjectBuilder scaled = Json.createObjectBuilder();
+		scaled.add("", packages.getJsonObject(""));
+		for (int copy = 0; copy < scale; copy++) {
+			String suffix = copy == 0 ? "" : "-" + copy;
+			packages.forEach((key, value) -> {
+				if (key.isEmpty())
+					return;
+				JsonObject entry = value.asJsonObject();
+				if (entry.getBoolean("link", false)) {
+					entry = Json.createObjectBuilder(entry).add("resolved", entry.getString("resolved") + suffix)
+							.build();
+				}
+				scaled.add(key + suffix, entry);
+			});
+		}
+
+		packageLock = Json.createObjectBuilder(json).add("packages", scaled).build().toString();
+	}
+
+	@Benchmark
+	public Object read() {
+		return new PackageLockFileReader(new StringReader(packageLock)).getContentIds();
+	}
+}
@@ -0,0 +1,87 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.dash.licenses.ContentId;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.snapshot.LicenseDataSnapshot;
+import org.eclipse.dash.licenses.snapshot.LicenseDataSnapshotWriter;
+import org.eclipse.dash.licenses.snapshot.SnapshotLicenseDataProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looking up content in an offline snapshot. The snapshot holds license data
+ * for a million ids; each invocation looks up <code>count</code> ids, half of
+ * which are in the snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotBenchmark {
+
+	@Param({ "10000" })
+	int count;
+
+	File file;
+	SnapshotLicenseDataProvider provider;
+	List<IContentId> ids;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		var writer = new LicenseDataSnapshotWriter();
+		var known = Inputs.clearlyDefinedIds(1_000_000);
+		for (String id : known) {
+			writer.add(id, "MIT", 100, Status.Approved, "clearlydefined", "https://clearlydefined.io/definitions/" + id,
+					null);
+		}
+
+		file = Files.createTempFile("benchmark", LicenseDataSnapshotWriter.EXTENSION).toFile();
+		writer.write(file);
+		provider = new SnapshotLicenseDataProvider("clearlydefined", 50, LicenseDataSnapshot.open(file));
+
+		// Every other id is one that the snapshot doesn't have.
+		ids = known.stream().limit(count / 2).flatMap(id -> List.of(id, id + "-missing").stream())
+				.map(ContentId::getContentId).collect(Collectors.toList());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public void lookup(Blackhole blackhole) {
+		provider.queryLicenseData(ids, blackhole::consume);
+	}
+}
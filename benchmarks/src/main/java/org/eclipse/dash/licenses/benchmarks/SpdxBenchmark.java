@@ -0,0 +1,104 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dash.licenses.spdx.SpdxApprovedLicenses;
+import org.eclipse.dash.licenses.spdx.SpdxExpression;
+import org.eclipse.dash.licenses.spdx.SpdxExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing SPDX expressions, and evaluating parsed SPDX expressions against the
+ * approved licenses. The approved licenses list has several hundred entries
+ * (as does the real list); the expressions mix approved and unknown
+ * identifiers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpdxBenchmark {
+
+	@Param({ "500" })
+	int approvedLicenses;
+
+	@Param({ "1000" })
+	int expressionCount;
+
+	SpdxApprovedLicenses approved;
+	List<SpdxExpression> expressions;
+	List<String> sources;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(42);
+
+		List<String> codes = new ArrayList<>(
+				List.of("MIT", "Apache-2.0", "BSD-3-Clause", "BSD-2-Clause", "ISC", "EPL-2.0", "EPL-1.0"));
+		while (codes.size() < approvedLicenses) {
+			codes.add("LicenseRef-Approved-" + codes.size());
+		}
+		approved = SpdxApprovedLicenses.of(codes);
+
+		sources = Inputs.spdxExpressions(expressionCount);
+
+		expressions = new ArrayList<>();
+		SpdxExpressionParser parser = new SpdxExpressionParser();
+		for (int index = 0; index < expressionCount; index++) {
+			String left = random.nextBoolean() ? codes.get(random.nextInt(codes.size()))
+					: "LicenseRef-Unknown-" + index;
+			String right = codes.get(random.nextInt(codes.size()));
+			switch (index % 3) {
+			case 0:
+				expressions.add(parser.parse(left));
+				break;
+			case 1:
+				expressions.add(parser.parse(left + " AND " + right));
+				break;
+			default:
+				expressions.add(parser.parse("(" + left + " OR " + right + ") AND " + right));
+			}
+		}
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) {
+		SpdxExpressionParser parser = new SpdxExpressionParser();
+		for (String source : sources) {
+			blackhole.consume(parser.parse(source));
+		}
+	}
+
+	@Benchmark
+	public void evaluate(Blackhole blackhole) {
+		for (SpdxExpression expression : expressions) {
+			blackhole.consume(expression.matchesApproved(approved));
+		}
+	}
+}
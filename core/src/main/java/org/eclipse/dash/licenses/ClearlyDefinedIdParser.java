@@ -37,6 +37,9 @@ public class ClearlyDefinedIdParser implements ContentIdParser {
 	 */
 	@Override
 	public IContentId parseId(String input) {
+		if (!isCandidate(input))
+			return null;
+
 		Matcher matcher = pattern.matcher(input.trim());
 		if (!matcher.matches())
 			return null;
@@ -50,4 +53,17 @@ public class ClearlyDefinedIdParser implements ContentIdParser {
 
 		return ContentId.getContentId(type, provider, namespace, name, version);
 	}
+
+	/**
+	 * ClearlyDefined ids always have exactly five segments separated by slashes.
+	 */
+	@Override
+	public boolean isCandidate(String input) {
+		int slashes = 0;
+		for (int index = 0; index < input.length(); index++) {
+			if (input.charAt(index) == '/' && ++slashes > 4)
+				return false;
+		}
+		return slashes == 4;
+	}
 }
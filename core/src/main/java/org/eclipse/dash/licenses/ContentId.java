@@ -9,15 +9,36 @@
  *************************************************************************/
 package org.eclipse.dash.licenses;
 
-public class ContentId implements IContentId {
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * A content id is an immutable value. The canonical string form (e.g.,
+ * <code>npm/npmjs/-/write/1.0.3</code>) and its hash are computed once, when
+ * the id is created, since ids are used heavily as keys in maps and sets.
+ * <p>
+ * Instances are interned: the factory methods answer the same instance for
+ * equal ids for as long as that instance is in use, so the same content found
+ * in many files (or answered by many providers) only occupies memory once.
+ */
+public final class ContentId implements IContentId {
 
 	private static final ClearlyDefinedIdParser IdParser = new ClearlyDefinedIdParser();
 
-	private String type;
-	private String source;
-	private String namespace;
-	private String name;
-	private String version;
+	/**
+	 * The interned instances. The references are weak, so entries disappear when
+	 * the ids are no longer in use; the interner is safe to use from many threads
+	 * without a global lock.
+	 */
+	private static final Interner<ContentId> Interned = Interners.newWeakInterner();
+
+	private final String type;
+	private final String source;
+	private final String namespace;
+	private final String name;
+	private final String version;
+	private final String string;
+	private final int hash;
 
 	private ContentId(String type, String source, String namespace, String name, String version) {
 		this.type = type;
@@ -25,10 +46,12 @@ public class ContentId implements IContentId {
 		this.namespace = namespace;
 		this.name = name;
 		this.version = version;
+		this.string = type + "/" + source + "/" + namespace + "/" + name + "/" + version;
+		this.hash = string.hashCode();
 	}
 
 	public static IContentId getContentId(String type, String source, String namespace, String name, String version) {
-		return new ContentId(type, source, namespace, name, version);
+		return Interned.intern(new ContentId(type, source, namespace, name, version));
 	}
 
 	public static IContentId getContentId(String string) {
@@ -37,20 +60,23 @@ public class ContentId implements IContentId {
 
 	@Override
 	public String toString() {
-		return type + "/" + source + "/" + namespace + "/" + name + "/" + version;
+		return string;
 	}
 
 	@Override
 	public boolean equals(Object obj) {
+		if (obj == this)
+			return true;
 		if (obj instanceof ContentId) {
-			return toString().equals(obj.toString());
+			var other = (ContentId) obj;
+			return hash == other.hash && string.equals(other.string);
 		}
 		return false;
 	}
 
 	@Override
 	public int hashCode() {
-		return toString().hashCode();
+		return hash;
 	}
 
 	@Override
@@ -21,4 +21,20 @@ public interface ContentIdParser {
 	 */
 	IContentId parseId(String input);
 
+	/**
+	 * Answer whether or not the input has the right shape to be parsed by the
+	 * receiver. This is intended as a cheap test (e.g., the presence of a
+	 * separator character); implementors run it at the start of
+	 * {@link #parseId(String)} to avoid running the full parse on input that
+	 * cannot possibly match, so callers don't need to. Implementors must only
+	 * answer <code>false</code> when {@link #parseId(String)} would answer
+	 * <code>null</code>.
+	 * 
+	 * @param input a content identifier
+	 * @return <code>false</code> when the input cannot be parsed by the receiver.
+	 */
+	default boolean isCandidate(String input) {
+		return true;
+	}
+
 }
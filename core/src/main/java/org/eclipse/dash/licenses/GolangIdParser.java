@@ -31,6 +31,9 @@ public class GolangIdParser implements ContentIdParser {
 
 	@Override
 	public IContentId parseId(String value) {
+		if (!isCandidate(value))
+			return null;
+
 		Matcher matcher = recordPattern.matcher(value.trim());
 		if (!matcher.matches())
 			return null;
@@ -47,4 +50,17 @@ public class GolangIdParser implements ContentIdParser {
 
 		return ContentId.getContentId("go", "golang", namespace, name, version);
 	}
+
+	/**
+	 * The module path and the version are always separated by whitespace.
+	 */
+	@Override
+	public boolean isCandidate(String value) {
+		String trimmed = value.trim();
+		for (int index = 0; index < trimmed.length(); index++) {
+			if (Character.isWhitespace(trimmed.charAt(index)))
+				return true;
+		}
+		return false;
+	}
 }
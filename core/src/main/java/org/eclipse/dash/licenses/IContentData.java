@@ -11,6 +11,8 @@ package org.eclipse.dash.licenses;
 
 import org.eclipse.dash.licenses.LicenseSupport.Status;
 
+import jakarta.json.JsonObject;
+
 public interface IContentData {
 
 	IContentId getId();
@@ -30,4 +32,27 @@ public interface IContentData {
 	default String getSourceUrl() {
 		return null;
 	}
+
+	/**
+	 * Answer whether or not the provider actually knows anything about the
+	 * content. Some providers (e.g., ClearlyDefined) answer an essentially empty
+	 * result for content that they have never seen.
+	 *
+	 * @return <code>false</code> when the result carries no information.
+	 */
+	default boolean isKnown() {
+		return true;
+	}
+
+	/**
+	 * Answer the provider-specific values that the license data cache should
+	 * retain so that the provider can restore the content data later (see
+	 * {@link ILicenseDataProvider#restoreContentData(IContentId, JsonObject)}).
+	 *
+	 * @return the values to retain, or <code>null</code> when the values exposed by
+	 *         this interface are enough.
+	 */
+	default JsonObject getCacheData() {
+		return null;
+	}
 }
\ No newline at end of file
@@ -10,13 +10,108 @@
 package org.eclipse.dash.licenses;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
+import jakarta.json.JsonObject;
+
 public interface ILicenseDataProvider {
 
+	/**
+	 * The weight of providers that don't specify one (see {@link #getWeight()}).
+	 */
+	int DEFAULT_WEIGHT = 50;
+
 	void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer);
-	
+
+	/**
+	 * Query the license data without blocking the caller. The future completes
+	 * when the consumer has been handed all of the results; the consumer may be
+	 * invoked by a different thread than the caller's.
+	 * <p>
+	 * Providers that talk to a server should override this to send their requests
+	 * asynchronously. The default implementation runs
+	 * {@link #queryLicenseData(Collection, Consumer)} on the executor.
+	 *
+	 * @param ids      the content ids
+	 * @param consumer the consumer of the results
+	 * @param executor runs the work of providers that need a thread to do it
+	 * @return a future that completes when the query is done
+	 */
+	default CompletableFuture<Void> queryLicenseDataAsync(Collection<IContentId> ids, Consumer<IContentData> consumer,
+			Executor executor) {
+		return CompletableFuture.runAsync(() -> queryLicenseData(ids, consumer), executor);
+	}
+
 	default int getWeight() {
-		return 50;
+		return DEFAULT_WEIGHT;
+	}
+
+	/**
+	 * Answer the number of content ids that should be sent to the receiver in a
+	 * single call to {@link #queryLicenseData(Collection, Consumer)}. Providers
+	 * that talk to a server may adjust this number as they learn how the server
+	 * copes with the requests that they send.
+	 *
+	 * @param batchSize the batch size specified by the settings
+	 * @return the batch size for the receiver
+	 */
+	default int getBatchSize(int batchSize) {
+		return batchSize;
+	}
+
+	/**
+	 * Answer whether or not the receiver actually asks about the content. Content
+	 * that the receiver doesn't ask about (e.g., content of a type that the server
+	 * doesn't support) is not recorded as "not found" by the license data cache.
+	 * The answer may change during a run (e.g., when a provider gives up on
+	 * content that the server fails to answer).
+	 *
+	 * @param id the content id
+	 * @return <code>true</code> when the receiver asks about the content.
+	 */
+	default boolean isSupported(IContentId id) {
+		return true;
+	}
+
+	/**
+	 * Answer whether or not the results answered by the receiver should be
+	 * retained by the license data cache. Providers that don't ask a server
+	 * (e.g., those that answer from a snapshot) have nothing to gain from the
+	 * cache; worse, their results would be mistaken for those of the server that
+	 * they share a name with.
+	 *
+	 * @return <code>true</code> when the results should be cached.
+	 */
+	default boolean isCacheable() {
+		return true;
+	}
+
+	/**
+	 * Answer a short name that identifies the receiver. The name must be stable
+	 * across invocations; it is used, for example, to keep the cached results of
+	 * one provider separate from those of another.
+	 *
+	 * @return a short, stable name (e.g., "clearlydefined")
+	 */
+	default String getName() {
+		return getClass().getName();
+	}
+
+	/**
+	 * Answer the content data for the content id, restored from the values that
+	 * the license data cache retained for it (see {@link IContentData#getCacheData()}).
+	 * Providers whose verdicts depend on the settings (e.g., the confidence
+	 * threshold) determine the status again here, so that a cached result follows
+	 * the settings of the current run.
+	 *
+	 * @param id   the content id
+	 * @param data the values that were retained
+	 * @return the content data, or <code>null</code> to use the cached values as
+	 *         they are.
+	 */
+	default IContentData restoreContentData(IContentId id, JsonObject data) {
+		return null;
 	}
-}
+}
\ No newline at end of file
@@ -10,6 +10,9 @@
 package org.eclipse.dash.licenses;
 
 import java.io.File;
+import java.time.Duration;
+
+import org.eclipse.dash.licenses.LicenseSupport.Status;
 
 public interface ISettings {
 
@@ -24,7 +27,23 @@ public interface ISettings {
 	public static final String DEFAULT_IPZILLA_URL = "https://www.eclipse.org/projects/services/license_check.php";
 	public static final int DEFAULT_THRESHOLD = 60;
 	public static final int DEFAULT_BATCH = 500;
+	public static final int DEFAULT_PARALLELISM = 1;
+
+	/**
+	 * Default time-to-live (in hours) for cached license data. Approved content
+	 * rarely changes status, so we hang on to it for a while; restricted content
+	 * may be approved at any time, so we check again sooner.
+	 */
+	public static final int DEFAULT_APPROVED_CACHE_TTL = 7 * 24;
+	public static final int DEFAULT_RESTRICTED_CACHE_TTL = 24;
 
+	/**
+	 * The batch size is the number of content ids that we send to a license data
+	 * provider in a single request. Providers that talk to a server start with
+	 * this size and adjust it as they learn how the server copes.
+	 *
+	 * @return the batch size (at least one).
+	 */
 	default int getBatchSize() {
 		String value = System.getProperty("org.eclipse.dash.batch");
 		if (value == null)
@@ -37,6 +56,31 @@ public interface ISettings {
 		return threshold;
 	};
 
+	/**
+	 * The parallelism is the maximum number of batches that we send to each
+	 * license data provider at the same time. Batches move through the providers
+	 * (heaviest first) independently of each other, so while one provider works
+	 * on some batches the others work on different ones; up to the parallelism
+	 * times the number of providers batches are in flight. When the parallelism
+	 * is greater than one, providers that don't talk to a server do their work on
+	 * a pool of that many threads. The parallelism also limits the number of
+	 * requests that ClearlyDefined sends at the same time when it recovers from an
+	 * error. The default value of one sends one batch to each provider at a time.
+	 *
+	 * @return the number of concurrent requests for each provider (at least one).
+	 */
+	default int getParallelism() {
+		String value = System.getProperty("org.eclipse.dash.parallelism");
+		if (value == null)
+			return DEFAULT_PARALLELISM;
+
+		int parallelism = Integer.valueOf(value);
+		if (parallelism < 1)
+			return 1;
+
+		return parallelism;
+	}
+
 	/**
 	 * The license check URL is the address of the Eclipse Foundation license data
 	 * service.
@@ -153,4 +197,67 @@ public interface ISettings {
 	default String getRepository() {
 		return System.getProperty("org.eclipse.dash.repo");
 	}
+
+	/**
+	 * The path of the file that we use to cache license data between runs.
+	 *
+	 * @return the path or <code>null</code> if results should not be cached.
+	 */
+	default String getCacheFilePath() {
+		return System.getProperty("org.eclipse.dash.cache");
+	}
+
+	/**
+	 * The path of the file that we use to keep a local copy of the approved
+	 * licenses list. When specified, we only download the list again when it has
+	 * changed, and use the local copy when the list cannot be downloaded. This is
+	 * separate from the license data cache (see {@link #getCacheFilePath()}).
+	 *
+	 * @return the path or <code>null</code> if the list should not be cached.
+	 */
+	default String getApprovedLicensesCachePath() {
+		return System.getProperty("org.eclipse.dash.approvedLicensesCache");
+	}
+
+	/**
+	 * The path of a license data snapshot (or a directory of snapshots, one per
+	 * license data provider). When specified, license data is answered from the
+	 * snapshots instead of the Eclipse Foundation and ClearlyDefined servers.
+	 *
+	 * @return the path or <code>null</code> if the servers should be used.
+	 * @see org.eclipse.dash.licenses.snapshot.LicenseDataSnapshot
+	 */
+	default String getSnapshotPath() {
+		return System.getProperty("org.eclipse.dash.snapshot");
+	}
+
+	/**
+	 * How long do we trust cached license data from a particular authority (e.g.,
+	 * "eclipse" or "clearlydefined")? Approved and restricted results have
+	 * separate values; the value for a specific authority can be set with a system
+	 * property (e.g., <code>org.eclipse.dash.cache.ttl.clearlydefined.approved</code>),
+	 * which falls back to the value for all authorities (e.g.,
+	 * <code>org.eclipse.dash.cache.ttl.approved</code>). All values are expressed
+	 * in hours.
+	 *
+	 * @param authority the name of a license data provider
+	 * @param status    the status of the cached result
+	 * @return the time-to-live (never negative).
+	 */
+	default Duration getCacheTtl(String authority, Status status) {
+		var key = status == Status.Approved ? "approved" : "restricted";
+		var value = System.getProperty("org.eclipse.dash.cache.ttl." + authority + "." + key);
+		if (value == null)
+			value = System.getProperty("org.eclipse.dash.cache.ttl." + key);
+
+		var hours = status == Status.Approved ? DEFAULT_APPROVED_CACHE_TTL : DEFAULT_RESTRICTED_CACHE_TTL;
+		if (value != null) {
+			try {
+				hours = Math.max(0, Integer.parseInt(value));
+			} catch (NumberFormatException e) {
+				// Use the default
+			}
+		}
+		return Duration.ofHours(hours);
+	}
 }
\ No newline at end of file
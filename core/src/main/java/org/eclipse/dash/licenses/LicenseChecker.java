@@ -9,15 +9,32 @@
  *************************************************************************/
 package org.eclipse.dash.licenses;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.cache.LicenseDataCache;
 import org.eclipse.dash.licenses.util.Batchifier;
+import org.eclipse.dash.licenses.util.Throttle;
 
 import jakarta.inject.Inject;
 
@@ -26,38 +43,230 @@ public class LicenseChecker {
 	ISettings settings;
 	@Inject
 	Set<ILicenseDataProvider> licenseDataProviders;
+	@Inject
+	LicenseDataCache cache;
 
 	private Stream<ILicenseDataProvider> getLicenseDataProviders() {
-		// Compare in reverse order. We want the "heaviest" one first.
-		return licenseDataProviders.stream().sorted((a,b)-> Integer.compare(b.getWeight(), a.getWeight()));
+		// Compare in reverse order. We want the "heaviest" one first. Break ties
+		// by name so that the order is the same every time.
+		return licenseDataProviders.stream()
+				.sorted(Comparator.comparingInt(ILicenseDataProvider::getWeight).reversed()
+						.thenComparing(ILicenseDataProvider::getName))
+				.map(cache::wrap);
 	}
 
 	/**
 	 * Get the license data from the providers.
 	 *
+	 * <p>
+	 * The content ids are grouped into batches and each batch is sent through the
+	 * providers, heaviest first; content that has been approved by a heavier
+	 * provider is not sent to the lighter ones. A batch moves on to the next
+	 * provider as soon as the current provider has answered for it, so (for
+	 * example) ClearlyDefined works on the first batch while the Eclipse
+	 * Foundation works on the second. When the settings specify a parallelism
+	 * greater than one, up to that many batches are sent to each provider at the
+	 * same time.
+	 *
+	 * <p>
+	 * Batches are sent with
+	 * {@link ILicenseDataProvider#queryLicenseDataAsync(Collection, Consumer, java.util.concurrent.Executor)}.
+	 * Providers that talk to a server do so without tying up a thread for each
+	 * batch in flight; other providers do their work on a pool of threads.
+	 *
+	 * <p>
+	 * Providers may answer from several threads at the same time. The results are
+	 * gathered without locking (see {@link LicenseData}); the answer from the
+	 * heaviest provider is the one that counts, whatever order the answers arrive
+	 * in.
+	 *
 	 * @param ids
 	 * @param consumer
 	 * @return
 	 */
 	public Map<IContentId, LicenseData> getLicenseData(Collection<IContentId> ids) {
-		Map<IContentId, LicenseData> licenseData = ids.stream().map(id -> new LicenseData(id)).collect(
-				Collectors.toMap(LicenseData::getId, Function.identity(), (existing, replacement) -> existing));
+		Map<IContentId, LicenseData> licenseData = new ConcurrentHashMap<>();
+		ids.forEach(id -> licenseData.computeIfAbsent(id, LicenseData::new));
 
-		getLicenseDataProviders().forEach(provider -> {
-			new Batchifier<IContentId>()
-				.setBatchSize(settings.getBatchSize())
-				.setConsumer(batch -> {
-					provider.queryLicenseData(batch, data -> {
-						var item = licenseData.get(data.getId());
-						if (item != null) item.addContentData(data);
-					});
-				})
-				.batchify(ids.stream()
-						.filter(IContentId::isValid)
-						.filter(id -> licenseData.get(id).getStatus() != Status.Approved)
-						.iterator());
-		});
+		new Cascade(getLicenseDataProviders().collect(Collectors.toList()))
+			.run(ids.stream().distinct().iterator(), (cascade, batch) -> cascade.query(batch, licenseData));
+
+		cache.save();
 
 		return licenseData;
 	}
+
+	/**
+	 * Get the license data from the providers, handing the license data for each
+	 * content id to the consumer as soon as it is available.
+	 *
+	 * <p>
+	 * Content ids are pulled from the stream as they are needed and are grouped
+	 * into batches; each batch is dispatched as soon as it fills. Each batch is
+	 * sent through the providers, heaviest first (content that has been approved
+	 * by a heavier provider is not sent to the lighter ones), and then the license
+	 * data for the entire batch is handed to the consumer. A batch moves on to the
+	 * next provider as soon as the current provider has answered for it, so the
+	 * providers work on different batches at the same time. At most (parallelism)
+	 * batches are sent to each provider at the same time; the stream is not read
+	 * further ahead than that.
+	 *
+	 * <p>
+	 * Providers may ask for batches of a different size than the settings specify
+	 * (see {@link ILicenseDataProvider#getBatchSize(int)}). We pull batches of the
+	 * largest size that any provider asks for from the stream, and send the ids
+	 * to each provider in chunks of the size that it asks for.
+	 *
+	 * <p>
+	 * The consumer is only invoked by one thread at a time. Batches are reported
+	 * in the order that they are done (which is not necessarily the order in which
+	 * they were read); the content within a batch is reported in the order that it
+	 * was read. Duplicate content ids are only reported once.
+	 *
+	 * @param ids      the content ids
+	 * @param consumer the consumer of the license data
+	 */
+	public void getLicenseData(Stream<IContentId> ids, Consumer<LicenseData> consumer) {
+		Set<IContentId> seen = new HashSet<>();
+
+		new Cascade(getLicenseDataProviders().collect(Collectors.toList()))
+			.run(ids.filter(seen::add).iterator(), (cascade, batch) -> {
+				Map<IContentId, LicenseData> licenseData = new ConcurrentHashMap<>();
+				batch.forEach(id -> licenseData.put(id, new LicenseData(id)));
+
+				return cascade.query(batch, licenseData).thenRun(() -> {
+					// Report in the order of the batch. The batch has no duplicates.
+					synchronized (consumer) {
+						batch.forEach(id -> consumer.accept(licenseData.get(id)));
+					}
+				});
+			});
+
+		cache.save();
+	}
+
+	/**
+	 * A {@link Cascade} sends batches of content ids through the providers,
+	 * heaviest first. There is no barrier between the providers: each batch moves
+	 * on to the next provider as soon as the current one has answered for it, so
+	 * the end-to-end time is closer to that of the slowest provider than to the
+	 * sum of all of them.
+	 */
+	private class Cascade {
+		final List<ILicenseDataProvider> providers;
+		final List<Throttle> throttles = new ArrayList<>();
+		final int parallelism;
+		final ExecutorService pool;
+		final Executor executor;
+
+		Cascade(List<ILicenseDataProvider> providers) {
+			this.providers = providers;
+			this.parallelism = settings.getParallelism();
+			providers.forEach(provider -> throttles.add(new Throttle(parallelism)));
+
+			// Providers that don't talk to a server do their work on the pool; each
+			// provider may have (parallelism) batches on the go.
+			pool = parallelism > 1 ? Executors.newFixedThreadPool(parallelism * Math.max(1, providers.size())) : null;
+			executor = pool == null ? Runnable::run : pool;
+		}
+
+		/**
+		 * Group the ids into batches and hand each batch to the query. Only as many
+		 * batches as the providers can work on at the same time are in flight; we
+		 * don't read further ahead than that.
+		 */
+		void run(Iterator<IContentId> ids, BiFunction<Cascade, Collection<IContentId>, CompletableFuture<?>> query) {
+			int limit = parallelism * Math.max(1, providers.size());
+			Deque<Future<?>> batches = new ArrayDeque<>();
+
+			try {
+				new Batchifier<IContentId>()
+					.setBatchSize(() -> getBatchSize(providers))
+					.setConsumer(batch -> {
+						while (batches.size() >= limit) {
+							waitFor(List.of(batches.removeFirst()));
+						}
+						batches.add(query.apply(this, batch));
+					})
+					.batchify(ids);
+
+				waitFor(new ArrayList<>(batches));
+			} finally {
+				if (pool != null)
+					pool.shutdownNow();
+			}
+		}
+
+		/**
+		 * Send the batch through the providers, gathering the answers into the
+		 * license data (which must have an entry for each id in the batch).
+		 *
+		 * @return a future that completes when the last provider is done
+		 */
+		CompletableFuture<Void> query(Collection<IContentId> batch, Map<IContentId, LicenseData> licenseData) {
+			return query(0, batch, licenseData);
+		}
+
+		private CompletableFuture<Void> query(int index, Collection<IContentId> ids,
+				Map<IContentId, LicenseData> licenseData) {
+			List<IContentId> pending = ids.stream()
+					.filter(IContentId::isValid)
+					.filter(id -> licenseData.get(id).getStatus() != Status.Approved)
+					.collect(Collectors.toList());
+			if (index >= providers.size() || pending.isEmpty())
+				return CompletableFuture.completedFuture(null);
+
+			var provider = providers.get(index);
+			var throttle = throttles.get(index);
+			List<CompletableFuture<Void>> chunks = new ArrayList<>();
+			new Batchifier<IContentId>()
+				.setBatchSize(() -> provider.getBatchSize(settings.getBatchSize()))
+				.setConsumer(chunk -> chunks.add(throttle.submit(() -> provider.queryLicenseDataAsync(chunk,
+						data -> addContentData(licenseData, provider, data), executor))))
+				.batchify(pending.iterator());
+
+			// What's left of the batch moves on to the next provider as soon as this
+			// one is done with it.
+			return CompletableFuture.allOf(chunks.toArray(CompletableFuture<?>[]::new))
+					.thenCompose(done -> query(index + 1, pending, licenseData));
+		}
+	}
+
+	/**
+	 * Add the content data answered by the provider to the license data for its
+	 * content id. This may be called from several threads at the same time.
+	 */
+	private void addContentData(Map<IContentId, LicenseData> licenseData, ILicenseDataProvider provider,
+			IContentData data) {
+		var item = licenseData.get(data.getId());
+		if (item != null)
+			item.addContentData(data, provider.getWeight());
+	}
+
+	/**
+	 * Answer the size of the batches that we pull from the stream.
+	 */
+	private int getBatchSize(List<ILicenseDataProvider> providers) {
+		int batchSize = settings.getBatchSize();
+		return providers.stream().mapToInt(provider -> provider.getBatchSize(batchSize)).max().orElse(batchSize);
+	}
+
+	private void waitFor(List<Future<?>> queries) {
+		try {
+			for (Future<?> query : queries) {
+				query.get();
+			}
+		} catch (ExecutionException e) {
+			queries.forEach(query -> query.cancel(true));
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new RuntimeException(e.getCause());
+		} catch (InterruptedException e) {
+			queries.forEach(query -> query.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+	}
 }
\ No newline at end of file
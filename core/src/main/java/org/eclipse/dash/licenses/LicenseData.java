@@ -9,17 +9,31 @@
  *************************************************************************/
 package org.eclipse.dash.licenses;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.eclipse.dash.licenses.LicenseSupport.Status;
 
+/**
+ * The license data for a single content id, gathered from the license data
+ * providers.
+ * <p>
+ * Providers may answer content data from several threads at the same time.
+ * The content data is kept in an array that is replaced (never modified) each
+ * time that content data is added; adding is an atomic compare-and-set of the
+ * array, so there is no lock to contend for. The array is kept in order of
+ * the weight of the provider that answered, heaviest first, so the default
+ * content data is the answer from the heaviest provider regardless of the
+ * order in which the answers arrive.
+ */
 public class LicenseData {
 
-	private IContentId id;
-	private List<IContentData> contentData = new ArrayList<>();
+	private static final Entry[] NONE = new Entry[0];
+
+	private final IContentId id;
+	private final AtomicReference<Entry[]> contentData = new AtomicReference<>(NONE);
 
 	public LicenseData(IContentId id) {
 		this.id = id;
@@ -29,8 +43,34 @@ public class LicenseData {
 		return id;
 	}
 
+	/**
+	 * Add content data answered by a provider. Content data added this way is
+	 * ordered after content data from providers with a weight.
+	 */
 	public void addContentData(IContentData data) {
-		contentData.add(data);
+		addContentData(data, Integer.MIN_VALUE);
+	}
+
+	/**
+	 * Add content data answered by a provider with the given weight (see
+	 * {@link ILicenseDataProvider#getWeight()}). Content data from providers
+	 * with the same weight is kept in the order that it was added.
+	 */
+	public void addContentData(IContentData data, int weight) {
+		var entry = new Entry(data, weight);
+		contentData.updateAndGet(current -> insert(current, entry));
+	}
+
+	private static Entry[] insert(Entry[] current, Entry entry) {
+		int index = current.length;
+		while (index > 0 && current[index - 1].weight < entry.weight) {
+			index--;
+		}
+		Entry[] updated = new Entry[current.length + 1];
+		System.arraycopy(current, 0, updated, 0, index);
+		updated[index] = entry;
+		System.arraycopy(current, index, updated, index + 1, current.length - index);
+		return updated;
 	}
 
 	public String getLicense() {
@@ -55,17 +95,28 @@ public class LicenseData {
 
 	/**
 	 * Answer the result of executing the function with the default IContentData
-	 * instance. We assume that the license data sources were called in priority
-	 * order and that the first one that was found is the default (i.e., the first
-	 * one in the list). If no data has been found, then answer the default value.
+	 * instance, which is the one answered by the heaviest provider (i.e., the
+	 * first one in the list). If no data has been found, then answer the default
+	 * value.
 	 */
 	private <R> R withDefaultContentData(Function<IContentData, R> function, R defaultValue) {
-		if (contentData.isEmpty())
+		Entry[] current = contentData.get();
+		if (current.length == 0)
 			return defaultValue;
-		return function.apply(contentData.get(0));
+		return function.apply(current[0].data);
 	}
 
 	public Stream<IContentData> contentData() {
-		return contentData.stream();
+		return Arrays.stream(contentData.get()).map(entry -> entry.data);
+	}
+
+	private static class Entry {
+		final IContentData data;
+		final int weight;
+
+		Entry(IContentData data, int weight) {
+			this.data = data;
+			this.weight = weight;
+		}
 	}
 }
@@ -9,12 +9,18 @@
  *************************************************************************/
 package org.eclipse.dash.licenses;
 
+import java.io.File;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
+import org.eclipse.dash.licenses.http.CachedResource;
 import org.eclipse.dash.licenses.http.IHttpClientService;
+import org.eclipse.dash.licenses.spdx.SpdxApprovedLicenses;
 import org.eclipse.dash.licenses.spdx.SpdxExpression;
 import org.eclipse.dash.licenses.spdx.SpdxExpressionParser;
 import org.slf4j.Logger;
@@ -35,16 +41,44 @@ public class LicenseSupport {
 	IHttpClientService httpClientService;
 
 	private Map<String, String> approvedLicenses;
+	private volatile SpdxApprovedLicenses approved = SpdxApprovedLicenses.EMPTY;
+
+	/**
+	 * The same few hundred expressions show up over and over again, so we cache
+	 * both the parsed expressions and their status. The caches are bounded; when
+	 * one fills up, we just start over. The status of an expression depends on the
+	 * approved licenses, so the caches are replaced whenever the approved licenses
+	 * are (re)loaded.
+	 */
+	static final int CACHE_SIZE = 4096;
+	private volatile Map<String, SpdxExpression> expressions = new ConcurrentHashMap<>();
+	private volatile Map<String, Status> statuses = new ConcurrentHashMap<>();
 
 	public enum Status {
 		Approved, Restricted
 	}
 
+	/**
+	 * Load the approved licenses list. When the settings specify a file to cache
+	 * the list in, we only download the list when it has changed (see
+	 * {@link CachedResource}).
+	 */
 	@Inject
 	public void init() {
-		httpClientService.get(settings.getApprovedLicensesUrl(), "application/json", response -> {
+		Consumer<InputStream> handler = response -> {
 			approvedLicenses = getApprovedLicenses(new InputStreamReader(response));
-		});
+			approved = SpdxApprovedLicenses.of(approvedLicenses.keySet());
+			expressions = new ConcurrentHashMap<>();
+			statuses = new ConcurrentHashMap<>();
+		};
+
+		var cache = settings.getApprovedLicensesCachePath();
+		if (cache == null) {
+			httpClientService.get(settings.getApprovedLicensesUrl(), "application/json", handler);
+		} else {
+			new CachedResource(httpClientService, settings.getApprovedLicensesUrl(), new File(cache))
+					.get("application/json", handler);
+		}
 	}
 
 	private Map<String, String> getApprovedLicenses(Reader contentReader) {
@@ -79,17 +113,52 @@ public class LicenseSupport {
 	 *         <code>Status.Restricted</code> otherwise
 	 */
 	public Status getStatus(String expression) {
-		if (expression == null || expression.trim().isEmpty())
+		if (expression == null)
 			return Status.Restricted;
 
-		return getStatus(new SpdxExpressionParser().parse(expression));
+		String key = expression.trim();
+		if (key.isEmpty())
+			return Status.Restricted;
+
+		Map<String, Status> statuses = this.statuses;
+		Status status = statuses.get(key);
+		if (status == null) {
+			status = getStatus(getExpression(key));
+			remember(statuses, key, status);
+		}
+		return status;
+	}
+
+	/**
+	 * Answer the parsed form of an SPDX expression. Parsed expressions are cached
+	 * and shared, so the same instance may be answered for repeated calls.
+	 *
+	 * @param expression an SPDX expression.
+	 * @return the parsed expression
+	 */
+	public SpdxExpression getExpression(String expression) {
+		String key = expression.trim();
+		Map<String, SpdxExpression> expressions = this.expressions;
+		SpdxExpression parsed = expressions.get(key);
+		if (parsed == null) {
+			parsed = new SpdxExpressionParser().parse(key);
+			if (parsed != null)
+				remember(expressions, key, parsed);
+		}
+		return parsed;
+	}
+
+	private <V> void remember(Map<String, V> cache, String key, V value) {
+		if (cache.size() >= CACHE_SIZE)
+			cache.clear();
+		cache.put(key, value);
 	}
 
 	public Status getStatus(SpdxExpression expression) {
 		if (expression == null)
 			return Status.Restricted;
 
-		if (expression.matchesApproved(approvedLicenses.keySet())) {
+		if (expression.matchesApproved(approved)) {
 			return Status.Approved;
 		}
 
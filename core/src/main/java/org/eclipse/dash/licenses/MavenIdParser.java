@@ -45,6 +45,7 @@ public class MavenIdParser implements ContentIdParser {
 		 * We originally implemented this using Aether, but Aether breaks when a phase
 		 * is included in the value. So, we brute force it.
 		 */
+		if (!isCandidate(value)) return null;
 		
 		var mavenCoordinates = parse(normalise(value));
 		if (mavenCoordinates == null) return null;
@@ -77,6 +78,15 @@ public class MavenIdParser implements ContentIdParser {
 		return ContentId.getContentId(type, source, mavenCoordinates.groupId, mavenCoordinates.artifactId, mavenCoordinates.version);
 	}
 	
+	/**
+	 * Maven coordinates have at least three segments separated by colons.
+	 */
+	@Override
+	public boolean isCandidate(String value) {
+		int colon = value.indexOf(':');
+		return colon >= 0 && value.indexOf(':', colon + 1) >= 0;
+	}
+
 	/**
 	 * Extract out what is probably the actual ID from the input.
 	 * 
@@ -40,6 +40,9 @@ public class NpmJsIdParser implements ContentIdParser {
 
 	@Override
 	public IContentId parseId(String value) {
+		if (!isCandidate(value))
+			return null;
+
 		Matcher matcher = pattern.matcher(value.trim());
 		if (!matcher.matches())
 			return null;
@@ -52,4 +55,12 @@ public class NpmJsIdParser implements ContentIdParser {
 
 		return ContentId.getContentId("npm", "npmjs", namespace, name, version);
 	}
+
+	/**
+	 * The version is always separated from the name by an at sign.
+	 */
+	@Override
+	public boolean isCandidate(String value) {
+		return value.indexOf('@') >= 0;
+	}
 }
@@ -51,6 +51,8 @@ public class PackageUrlIdParser implements ContentIdParser {
 	
 	@Override
 	public IContentId parseId(String input) {
+		if (!isCandidate(input)) return null;
+		
 		PackageUrl packageUrl;
 		try {
 			packageUrl = new PackageUrlParser().parse(input);
@@ -93,4 +95,28 @@ public class PackageUrlIdParser implements ContentIdParser {
 		if (path != null && !path.isEmpty()) name += "%23" + path.stream().collect(Collectors.joining("%2F"));
 		return ContentId.getContentId(type, source, namespace, name, version);
 	}
+
+	/**
+	 * The parser accepts input with or without the <code>pkg:</code> scheme, so
+	 * the input must start either with the scheme or with the type; either way, a
+	 * colon must follow. Checking this up front saves us from creating (and
+	 * catching) an exception for every other sort of ID.
+	 */
+	@Override
+	public boolean isCandidate(String input) {
+		if (input.startsWith("pkg:")) return true;
+		
+		int colon = input.indexOf(':');
+		if (colon < 1) return false;
+		if (!isAsciiLetter(input.charAt(0))) return false;
+		for (int index = 1; index < colon; index++) {
+			char c = input.charAt(index);
+			if (!(isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '.' || c == '+' || c == '-')) return false;
+		}
+		return true;
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
 }
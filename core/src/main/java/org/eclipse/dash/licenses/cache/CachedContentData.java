@@ -0,0 +1,76 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.cache;
+
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+
+/**
+ * Instances of this class represent license data that has been restored from
+ * the {@link LicenseDataCache}. We only retain the information that is exposed
+ * via the {@link IContentData} interface.
+ */
+public class CachedContentData implements IContentData {
+
+	private final IContentId id;
+	private final String license;
+	private final int score;
+	private final Status status;
+	private final String authority;
+	private final String url;
+	private final String sourceUrl;
+
+	public CachedContentData(IContentId id, String license, int score, Status status, String authority, String url,
+			String sourceUrl) {
+		this.id = id;
+		this.license = license;
+		this.score = score;
+		this.status = status;
+		this.authority = authority;
+		this.url = url;
+		this.sourceUrl = sourceUrl;
+	}
+
+	@Override
+	public IContentId getId() {
+		return id;
+	}
+
+	@Override
+	public String getLicense() {
+		return license;
+	}
+
+	@Override
+	public int getScore() {
+		return score;
+	}
+
+	@Override
+	public Status getStatus() {
+		return status;
+	}
+
+	@Override
+	public String getAuthority() {
+		return authority;
+	}
+
+	@Override
+	public String getUrl() {
+		return url;
+	}
+
+	@Override
+	public String getSourceUrl() {
+		return sourceUrl;
+	}
+}
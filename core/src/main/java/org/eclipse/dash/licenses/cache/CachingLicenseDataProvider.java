@@ -0,0 +1,148 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.ILicenseDataProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A license data provider that answers results from a {@link LicenseDataCache}
+ * when it can, and only asks the provider that it wraps about the content that
+ * is not in the cache.
+ */
+class CachingLicenseDataProvider implements ILicenseDataProvider {
+	final Logger logger = LoggerFactory.getLogger(CachingLicenseDataProvider.class);
+
+	private final LicenseDataCache cache;
+	private final ILicenseDataProvider provider;
+
+	CachingLicenseDataProvider(LicenseDataCache cache, ILicenseDataProvider provider) {
+		this.cache = cache;
+		this.provider = provider;
+	}
+
+	@Override
+	public void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+		List<IContentId> missing = getCached(ids, consumer);
+		if (missing.isEmpty())
+			return;
+
+		List<IContentId> asked = getSupported(missing);
+		Set<IContentId> found = ConcurrentHashMap.newKeySet();
+		provider.queryLicenseData(missing, data -> put(found, data, consumer));
+		putNotFound(asked, found);
+	}
+
+	/**
+	 * Results from the cache are handed to the consumer right away; only the
+	 * content that is not in the cache is sent (asynchronously) to the provider.
+	 */
+	@Override
+	public CompletableFuture<Void> queryLicenseDataAsync(Collection<IContentId> ids, Consumer<IContentData> consumer,
+			Executor executor) {
+		List<IContentId> missing = getCached(ids, consumer);
+		if (missing.isEmpty())
+			return CompletableFuture.completedFuture(null);
+
+		List<IContentId> asked = getSupported(missing);
+		Set<IContentId> found = ConcurrentHashMap.newKeySet();
+		return provider.queryLicenseDataAsync(missing, data -> put(found, data, consumer), executor)
+				.thenRun(() -> putNotFound(asked, found));
+	}
+
+	/**
+	 * Hand the cached results to the consumer and answer the content ids that are
+	 * not in the cache.
+	 */
+	private List<IContentId> getCached(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+		String name = getName();
+		List<IContentId> missing = new ArrayList<>();
+		for (IContentId id : ids) {
+			var entry = cache.get(name, id);
+			if (entry == null) {
+				missing.add(id);
+			} else {
+				var data = entry.getContentData(id, provider);
+				if (data != null)
+					consumer.accept(data);
+			}
+		}
+
+		logger.debug("Found {} of {} items in the {} cache.", ids.size() - missing.size(), ids.size(), name);
+
+		return missing;
+	}
+
+	private void put(Set<IContentId> found, IContentData data, Consumer<IContentData> consumer) {
+		found.add(data.getId());
+		cache.put(getName(), data);
+		consumer.accept(data);
+	}
+
+	/**
+	 * Answer the content ids that the provider actually asks about (see
+	 * {@link ILicenseDataProvider#isSupported(IContentId)}). Content that the
+	 * provider doesn't ask about is not recorded, so that we ask again next time.
+	 */
+	private List<IContentId> getSupported(List<IContentId> ids) {
+		return ids.stream().filter(provider::isSupported).collect(Collectors.toList());
+	}
+
+	/**
+	 * Record that the provider has no information about the content that it was
+	 * asked about but didn't answer. When the provider no longer supports the
+	 * content after the query, it gave up on it (e.g., because the server failed
+	 * to answer); we record that so that subsequent runs don't ask again for a
+	 * while.
+	 */
+	private void putNotFound(List<IContentId> asked, Set<IContentId> found) {
+		String name = getName();
+		asked.stream().filter(id -> !found.contains(id)).forEach(id -> {
+			if (provider.isSupported(id)) {
+				cache.putNotFound(name, id);
+			} else {
+				cache.putFailed(name, id);
+			}
+		});
+	}
+
+	@Override
+	public int getWeight() {
+		return provider.getWeight();
+	}
+
+	@Override
+	public int getBatchSize(int batchSize) {
+		return provider.getBatchSize(batchSize);
+	}
+
+	@Override
+	public String getName() {
+		return provider.getName();
+	}
+
+	@Override
+	public boolean isSupported(IContentId id) {
+		return provider.isSupported(id);
+	}
+}
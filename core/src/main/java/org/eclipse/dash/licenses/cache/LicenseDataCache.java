@@ -0,0 +1,395 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.ILicenseDataProvider;
+import org.eclipse.dash.licenses.ISettings;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * The license data cache retains the results answered by license data
+ * providers on disk so that subsequent runs do not have to ask again. Results
+ * are keyed by the name of the provider that answered them and the content id.
+ * Every entry has a time-to-live that depends on the provider and on the
+ * status of the result (see {@link ISettings#getCacheTtl(String, Status)}).
+ * <p>
+ * We also remember when a provider has nothing to say about a particular
+ * content id; those entries are treated as restricted for the purposes of
+ * expiry.
+ * <p>
+ * Some providers answer a result that carries no information for content that
+ * they don't know about (see {@link IContentData#isKnown()}). We count how many
+ * times in a row that happens for each content id and double the time-to-live
+ * each time (up to {@value #MAXIMUM_BACKOFF} times the usual time-to-live), so
+ * that we don't keep asking about content that is never going to be known
+ * (e.g., internal artifacts). We hang on to these entries for one more
+ * time-to-live after they expire so that we can continue the count. We back
+ * off in the same way for content that a provider gives up on (e.g., because
+ * the server fails to answer for it).
+ * <p>
+ * Some providers also retain values of their own (see
+ * {@link IContentData#getCacheData()}); these are stored as they are in the
+ * <code>data</code> field and the provider restores the content data from them
+ * (see {@link ILicenseDataProvider#restoreContentData(IContentId, JsonObject)}).
+ * This way, we don't lose detail that the provider has (e.g., the licenses that
+ * ClearlyDefined discovered) and the provider can determine the status again
+ * according to the settings of the current run.
+ * <p>
+ * The cache is stored as a single JSON file with this general structure:
+ *
+ * <pre>
+ * {
+ *   "eclipse": {
+ *     "maven/mavencentral/com.google.guava/guava/15.0": {
+ *       "timestamp": 1760000000000,
+ *       "license": "Apache-2.0",
+ *       "score": 100,
+ *       "status": "approved",
+ *       "authority": "CQ7766",
+ *       "url": "https://dev.eclipse.org/ipzilla/show_bug.cgi?id=7766"
+ *     },
+ *     "npm/npmjs/-/unknown/1.0.0": {
+ *       "timestamp": 1760000000000
+ *     }
+ *   },
+ *   "clearlydefined": {
+ *     "npm/npmjs/-/internal/1.0.0": {
+ *       "timestamp": 1760000000000,
+ *       "license": "",
+ *       "score": 0,
+ *       "status": "restricted",
+ *       "authority": "clearlydefined",
+ *       "url": "https://clearlydefined.io/definitions/npm/npmjs/-/internal/1.0.0",
+ *       "data": { ... },
+ *       "misses": 3
+ *     },
+ *     "npm/npmjs/breaky/mcbreakyface/1.0.0": {
+ *       "timestamp": 1760000000000,
+ *       "misses": 2
+ *     }
+ *   }
+ * }
+ * </pre>
+ *
+ * The cache is disabled when no cache file is specified in the settings.
+ */
+public class LicenseDataCache {
+	final Logger logger = LoggerFactory.getLogger(LicenseDataCache.class);
+
+	/**
+	 * The most that we stretch the time-to-live of an entry for content that the
+	 * provider doesn't know about.
+	 */
+	static final int MAXIMUM_BACKOFF = 8;
+
+	@Inject
+	ISettings settings;
+
+	private final Map<String, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+	private volatile boolean modified = false;
+
+	@Inject
+	void init() {
+		if (!isEnabled())
+			return;
+
+		var file = getFile();
+		if (!file.exists())
+			return;
+
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			var now = System.currentTimeMillis();
+			JsonUtils.readJson(reader).forEach((authority, values) -> {
+				var cached = getEntries(authority);
+				values.asJsonObject().forEach((id, value) -> {
+					var entry = new Entry(value.asJsonObject());
+					if (entry.isRetained(authority, now))
+						cached.put(id, entry);
+				});
+			});
+			logger.debug("Loaded cached license data from {}.", file);
+		} catch (IOException | JsonException | ClassCastException e) {
+			logger.warn("Could not read the license data cache {}; ignoring its contents.", file);
+			logger.debug(e.getMessage(), e);
+			entries.clear();
+		}
+	}
+
+	public boolean isEnabled() {
+		return settings.getCacheFilePath() != null;
+	}
+
+	/**
+	 * Answer a license data provider that answers results from the cache where it
+	 * can, and delegates to the provider otherwise. When the cache is not enabled,
+	 * or the provider's results are not to be cached (see
+	 * {@link ILicenseDataProvider#isCacheable()}), the provider itself is
+	 * answered.
+	 */
+	public ILicenseDataProvider wrap(ILicenseDataProvider provider) {
+		if (!isEnabled() || !provider.isCacheable())
+			return provider;
+		return new CachingLicenseDataProvider(this, provider);
+	}
+
+	/**
+	 * Answer the cached entry for the content id, or <code>null</code> if we don't
+	 * have an entry or the entry has expired.
+	 */
+	Entry get(String authority, IContentId id) {
+		var entry = getEntries(authority).get(id.toString());
+		if (entry == null)
+			return null;
+		if (entry.isExpired(authority, System.currentTimeMillis()))
+			return null;
+		return entry;
+	}
+
+	void put(String authority, IContentData data) {
+		var entries = getEntries(authority);
+		var key = data.getId().toString();
+		int misses = 0;
+		if (!data.isKnown()) {
+			// We keep expired entries around for a while so that we can count.
+			var previous = entries.get(key);
+			misses = previous == null ? 1 : previous.misses + 1;
+		}
+		entries.put(key, new Entry(data, misses));
+		modified = true;
+	}
+
+	/**
+	 * Record that the provider has no information about the content.
+	 */
+	void putNotFound(String authority, IContentId id) {
+		getEntries(authority).put(id.toString(), new Entry());
+		modified = true;
+	}
+
+	/**
+	 * Record that the provider gave up on the content. Like results that carry no
+	 * information, we count how many times in a row that happens.
+	 */
+	void putFailed(String authority, IContentId id) {
+		var entries = getEntries(authority);
+		var key = id.toString();
+		var previous = entries.get(key);
+		entries.put(key, new Entry(previous == null ? 1 : previous.misses + 1));
+		modified = true;
+	}
+
+	private Map<String, Entry> getEntries(String authority) {
+		return entries.computeIfAbsent(authority, key -> new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Write the contents of the cache to disk. Expired entries are dropped (with
+	 * the exception of those that we're counting misses for; see
+	 * {@link #MAXIMUM_BACKOFF}). We
+	 * write to a temporary file first and then move it into place so that an
+	 * interrupted run does not leave a corrupted cache behind.
+	 */
+	public void save() {
+		if (!isEnabled() || !modified)
+			return;
+
+		Path path = getFile().toPath().toAbsolutePath();
+		try {
+			Files.createDirectories(path.getParent());
+			Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+			try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8);
+					JsonGenerator generator = Json.createGenerator(writer)) {
+				var now = System.currentTimeMillis();
+				generator.writeStartObject();
+				entries.forEach((authority, values) -> {
+					generator.writeStartObject(authority);
+					values.forEach((id, entry) -> {
+						if (entry.isRetained(authority, now))
+							entry.write(id, generator);
+					});
+					generator.writeEnd();
+				});
+				generator.writeEnd();
+			}
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+			modified = false;
+			logger.debug("Saved cached license data to {}.", path);
+		} catch (IOException e) {
+			logger.warn("Could not write the license data cache {}.", path);
+			logger.debug(e.getMessage(), e);
+		}
+	}
+
+	private File getFile() {
+		return new File(settings.getCacheFilePath());
+	}
+
+	/**
+	 * A single cached result. When the provider did not have any information, the
+	 * entry only records the time that we asked.
+	 */
+	class Entry {
+		final long timestamp;
+		final boolean found;
+		final String license;
+		final int score;
+		final Status status;
+		final String authority;
+		final String url;
+		final String sourceUrl;
+		final JsonObject data;
+		final int misses;
+
+		Entry() {
+			this(0);
+		}
+
+		/**
+		 * @param misses the number of times in a row that the provider has given up
+		 *               on the content (including this time)
+		 */
+		Entry(int misses) {
+			this.timestamp = System.currentTimeMillis();
+			this.found = false;
+			this.license = null;
+			this.score = 0;
+			this.status = Status.Restricted;
+			this.authority = null;
+			this.url = null;
+			this.sourceUrl = null;
+			this.data = null;
+			this.misses = misses;
+		}
+
+		/**
+		 * @param data   the result from the provider
+		 * @param misses the number of times in a row that the provider hasn't known
+		 *               anything about the content (including this time)
+		 */
+		Entry(IContentData data, int misses) {
+			this.timestamp = System.currentTimeMillis();
+			this.found = true;
+			this.license = data.getLicense();
+			this.score = data.getScore();
+			this.status = data.getStatus() == Status.Approved ? Status.Approved : Status.Restricted;
+			this.authority = data.getAuthority();
+			this.url = data.getUrl();
+			this.sourceUrl = data.getSourceUrl();
+			this.data = data.getCacheData();
+			this.misses = misses;
+		}
+
+		Entry(JsonObject value) {
+			JsonNumber timestamp = value.getJsonNumber("timestamp");
+			this.timestamp = timestamp == null ? 0 : timestamp.longValue();
+			this.found = value.containsKey("status");
+			this.license = getString(value, "license");
+			this.score = value.getInt("score", 0);
+			this.status = "approved".equals(getString(value, "status")) ? Status.Approved : Status.Restricted;
+			this.authority = getString(value, "authority");
+			this.url = getString(value, "url");
+			this.sourceUrl = getString(value, "sourceUrl");
+			var data = value.get("data");
+			this.data = data != null && data.getValueType() == JsonValue.ValueType.OBJECT ? data.asJsonObject() : null;
+			this.misses = value.getInt("misses", 0);
+		}
+
+		boolean isExpired(String provider, long now) {
+			return timestamp + getTtl(provider) <= now;
+		}
+
+		/**
+		 * Answer whether or not the entry should be kept. We keep entries that we're
+		 * counting misses for until they've been expired for one more time-to-live.
+		 */
+		boolean isRetained(String provider, long now) {
+			if (misses == 0)
+				return !isExpired(provider, now);
+			return timestamp + 2 * getTtl(provider) > now;
+		}
+
+		private long getTtl(String provider) {
+			long ttl = settings.getCacheTtl(provider, status).toMillis();
+			if (misses > 1)
+				ttl *= Math.min(MAXIMUM_BACKOFF, 1L << Math.min(misses - 1, 30));
+			return ttl;
+		}
+
+		/**
+		 * Answer the cached data for the content id, or <code>null</code> if the
+		 * provider had no information. When the provider retained values of its own,
+		 * it restores the content data from them.
+		 */
+		IContentData getContentData(IContentId id, ILicenseDataProvider provider) {
+			if (!found)
+				return null;
+			if (data != null) {
+				var restored = provider.restoreContentData(id, data);
+				if (restored != null)
+					return restored;
+			}
+			return new CachedContentData(id, license, score, status, authority, url, sourceUrl);
+		}
+
+		void write(String id, JsonGenerator generator) {
+			generator.writeStartObject(id);
+			generator.write("timestamp", timestamp);
+			if (found) {
+				writeString(generator, "license", license);
+				generator.write("score", score);
+				generator.write("status", status == Status.Approved ? "approved" : "restricted");
+				writeString(generator, "authority", authority);
+				writeString(generator, "url", url);
+				writeString(generator, "sourceUrl", sourceUrl);
+				if (data != null)
+					generator.write("data", data);
+			}
+			if (misses > 0)
+				generator.write("misses", misses);
+			generator.writeEnd();
+		}
+
+		private String getString(JsonObject value, String key) {
+			var string = value.get(key);
+			if (string == null || string.getValueType() != JsonValue.ValueType.STRING)
+				return null;
+			return value.getString(key);
+		}
+
+		private void writeString(JsonGenerator generator, String key, String value) {
+			if (value != null)
+				generator.write(key, value);
+		}
+	}
+}
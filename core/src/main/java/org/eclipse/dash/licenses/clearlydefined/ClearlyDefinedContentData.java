@@ -9,6 +9,7 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.clearlydefined;
 
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import org.eclipse.dash.licenses.ContentId;
@@ -16,19 +17,32 @@ import org.eclipse.dash.licenses.IContentData;
 import org.eclipse.dash.licenses.IContentId;
 import org.eclipse.dash.licenses.LicenseSupport.Status;
 
+import jakarta.json.Json;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
 
 public class ClearlyDefinedContentData implements IContentData {
 
 	public static final String CLEARLYDEFINED = "clearlydefined";
 
+	private final IContentId id;
+	private final String declaredLicense;
+	private final int licenseScore;
+	private final int effectiveScore;
+	private final String[] discoveredLicenses;
+	private final String revision;
+	private final SourceLocation sourceLocation;
+	private final boolean licensed;
+	private Status status;
+
 	/**
-	 * This field holds data that presents a single unit of content answered by a
-	 * query to the ClearlyDefined service. The value is in JSON format as in this
-	 * (somewhat abridged) example:
+	 * Instances are created from data that presents a single unit of content
+	 * answered by a query to the ClearlyDefined service. The value is in JSON
+	 * format as in this (somewhat abridged) example:
 	 *
 	 * <pre>
 	 * 	{
@@ -93,14 +107,40 @@ public class ClearlyDefinedContentData implements IContentData {
 	 *	    }
 	 *	}
 	 * </pre>
+	 *
+	 * We extract the handful of values that we actually use when the instance is
+	 * created and do not hang on to the JSON tree. License identifiers are
+	 * interned as the same few values recur across thousands of entries.
 	 */
-	private JsonObject data;
-	private String id;
-	private Status status;
-
 	public ClearlyDefinedContentData(String id, JsonObject data) {
+		this(ContentId.getContentId(id), data);
+	}
+
+	/**
+	 * When the content id that the data is for is already known (e.g., it is the
+	 * id that we asked about), we use it rather than parse the key in the
+	 * response.
+	 */
+	public ClearlyDefinedContentData(IContentId id, JsonObject data) {
 		this.id = id;
-		this.data = data;
+
+		JsonObject licensed = getObject(data, "licensed");
+		this.licensed = !licensed.isEmpty();
+		// @formatter:off
+		JsonObject discovered = getObject(
+				getObject(
+					getObject(licensed, "facets"),
+					"core"),
+				"discovered");
+		// @formatter:on
+
+		String declared = getString(licensed, "declared");
+		this.declaredLicense = declared == null ? "" : declared.intern();
+		this.licenseScore = getInt(getObject(licensed, "score"), "total");
+		this.effectiveScore = getInt(getObject(data, "scores"), "effective");
+		this.discoveredLicenses = getStrings(discovered, "expressions");
+		this.revision = getString(getObject(data, "coordinates"), "revision");
+		this.sourceLocation = new SourceLocation(getObject(getObject(data, "described"), "sourceLocation"));
 	}
 
 	@Override
@@ -110,12 +150,7 @@ public class ClearlyDefinedContentData implements IContentData {
 	}
 
 	public String getDeclaredLicense() {
-		// @formatter:off
-		JsonString license = data
-			.getOrDefault("licensed", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-			.getJsonString("declared");
-		// @formatter:on
-		return license == null ? "" : license.getString();
+		return declaredLicense;
 	}
 
 	@Override
@@ -124,27 +159,25 @@ public class ClearlyDefinedContentData implements IContentData {
 	}
 
 	public int getEffectiveScore() {
-		// @formatter:off
-		JsonNumber score = data
-			.getOrDefault("scores", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-			.getJsonNumber("effective");
-		// @formatter:on
-		return score == null ? 0 : score.intValue();
+		return effectiveScore;
 	}
 
 	public int getLicenseScore() {
-		// @formatter:off
-		JsonNumber score = data
-			.getOrDefault("licensed", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-			.getOrDefault("score", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-			.getJsonNumber("total");
-		// @formatter:on
-		return score == null ? 0 : score.intValue();
+		return licenseScore;
+	}
+
+	/**
+	 * ClearlyDefined answers an entry with no <code>licensed</code> section, or a
+	 * score of zero, for content that it doesn't know anything about.
+	 */
+	@Override
+	public boolean isKnown() {
+		return licensed && licenseScore > 0;
 	}
 
 	@Override
 	public IContentId getId() {
-		return ContentId.getContentId(id);
+		return id;
 	}
 
 	@Override
@@ -167,15 +200,7 @@ public class ClearlyDefinedContentData implements IContentData {
 	 * @return
 	 */
 	public Stream<String> discoveredLicenses() {
-		// @formatter:off
-		return data
-			.getOrDefault("licensed", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-			.getOrDefault("facets", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-			.getOrDefault("core", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-			.getOrDefault("discovered", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-			.getOrDefault("expressions", JsonValue.EMPTY_JSON_ARRAY).asJsonArray()
-			.getValuesAs(JsonString.class).stream().map(JsonString::getString);
-		// @formatter:on
+		return Arrays.stream(discoveredLicenses);
 	}
 
 	@Override
@@ -184,25 +209,72 @@ public class ClearlyDefinedContentData implements IContentData {
 	}
 
 	public SourceLocation getSourceLocation() {
-		return new SourceLocation(data.getOrDefault("described", JsonValue.EMPTY_JSON_OBJECT).asJsonObject()
-				.getOrDefault("sourceLocation", JsonValue.EMPTY_JSON_OBJECT).asJsonObject());
+		return sourceLocation;
+	}
+
+	/**
+	 * The cache retains the values that we extract in the same (abridged) format
+	 * that ClearlyDefined answers, so that an instance that is created from them
+	 * is the same as this one (less the status, which depends on the settings).
+	 */
+	@Override
+	public JsonObject getCacheData() {
+		// @formatter:off
+		var builder = Json.createObjectBuilder()
+			.add("coordinates", add(Json.createObjectBuilder(), "revision", revision))
+			.add("described", Json.createObjectBuilder()
+				.add("sourceLocation", sourceLocation.toJson()))
+			.add("scores", Json.createObjectBuilder()
+				.add("effective", effectiveScore));
+		if (licensed) {
+			var expressions = Json.createArrayBuilder();
+			discoveredLicenses().forEach(expressions::add);
+			builder.add("licensed", Json.createObjectBuilder()
+				.add("declared", declaredLicense)
+				.add("facets", Json.createObjectBuilder()
+					.add("core", Json.createObjectBuilder()
+						.add("discovered", Json.createObjectBuilder()
+							.add("expressions", expressions))))
+				.add("score", Json.createObjectBuilder()
+					.add("total", licenseScore)));
+		}
+		// @formatter:on
+		return builder.build();
 	}
 
 	public class SourceLocation {
-		private JsonObject data;
+		private final String type;
+		private final String provider;
+		private final String namespace;
+		private final String name;
+		private final String url;
 
 		public SourceLocation(JsonObject data) {
-			this.data = data;
+			this.type = getString(data, "type");
+			this.provider = getString(data, "provider");
+			this.namespace = getString(data, "namespace");
+			this.name = getString(data, "name");
+			this.url = getString(data, "url");
 		}
 
 		public String getUrl() {
-			return data.getString("url");
+			return url;
+		}
+
+		JsonObject toJson() {
+			var builder = Json.createObjectBuilder();
+			add(builder, "type", type);
+			add(builder, "provider", provider);
+			add(builder, "namespace", namespace);
+			add(builder, "name", name);
+			add(builder, "url", url);
+			return builder.build();
 		}
 
 		public String getDownloadUrl() {
 			if ("git".equals(getType()) && "github".equals(getProvider())) {
 				String namespace = getNamespace();
-				String name = data.getString("name");
+				String name = this.name;
 
 				return String.format("https://github.com/%s/%s/archive/refs/tags/%s.zip", namespace, name,
 						getRevision());
@@ -211,21 +283,58 @@ public class ClearlyDefinedContentData implements IContentData {
 		}
 
 		private String getType() {
-			return data.getString("type");
+			return type;
 		}
 
 		private String getProvider() {
-			return data.getString("provider");
+			return provider;
 		}
 
 		private String getNamespace() {
-			return data.getString("namespace");
+			return namespace;
 		}
 	}
 
 	public String getRevision() {
-		var coordinates = data.getOrDefault("coordinates", JsonValue.EMPTY_JSON_OBJECT).asJsonObject();
+		return revision;
+	}
+
+	private static JsonObject getObject(JsonObject data, String key) {
+		JsonValue value = data.get(key);
+		if (value == null || value.getValueType() != ValueType.OBJECT)
+			return JsonValue.EMPTY_JSON_OBJECT;
+		return value.asJsonObject();
+	}
+
+	private static String getString(JsonObject data, String key) {
+		JsonValue value = data.get(key);
+		if (value == null || value.getValueType() != ValueType.STRING)
+			return null;
+		return ((JsonString) value).getString();
+	}
 
-		return coordinates.getString("revision");
+	private static int getInt(JsonObject data, String key) {
+		JsonValue value = data.get(key);
+		if (value == null || value.getValueType() != ValueType.NUMBER)
+			return 0;
+		return ((JsonNumber) value).intValue();
+	}
+
+	private static JsonObjectBuilder add(JsonObjectBuilder builder, String key, String value) {
+		if (value != null)
+			builder.add(key, value);
+		return builder;
+	}
+
+	private static String[] getStrings(JsonObject data, String key) {
+		JsonValue value = data.get(key);
+		if (value == null || value.getValueType() != ValueType.ARRAY)
+			return new String[0];
+		// @formatter:off
+		return value.asJsonArray().stream()
+				.filter(each -> each.getValueType() == ValueType.STRING)
+				.map(each -> ((JsonString) each).getString().intern())
+				.toArray(String[]::new);
+		// @formatter:on
 	}
 }
@@ -0,0 +1,117 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.clearlydefined;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.eclipse.dash.licenses.util.JsonUtils;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * Reads the response from the ClearlyDefined definitions API directly from a
+ * stream. A definition includes a lot of information that we have no use for
+ * (e.g., the list of every file in the component along with its hashes and
+ * attributions); rather than building the entire JSON tree, we only retain the
+ * values that {@link ClearlyDefinedContentData} actually uses and skip over
+ * everything else.
+ *
+ * <p>
+ * The response is a JSON object that maps each id to its definition (see
+ * {@link ClearlyDefinedContentData} for an example of a definition).
+ */
+public class ClearlyDefinedResponseReader {
+
+	/**
+	 * Marks a value that we retain in its entirety.
+	 */
+	private static final Object KEEP = new Object();
+
+	/**
+	 * The structure of the values that we retain. Keys map either to
+	 * {@link #KEEP}, or to a nested map that describes which values to retain
+	 * from a nested object.
+	 */
+	// @formatter:off
+	private static final Map<String, Object> FIELDS = Map.of(
+			"coordinates", KEEP,
+			"licensed", Map.of(
+					"declared", KEEP,
+					"score", KEEP,
+					"facets", Map.of(
+							"core", Map.of(
+									"discovered", Map.of(
+											"expressions", KEEP)))),
+			"described", Map.of(
+					"sourceLocation", KEEP),
+			"scores", KEEP);
+	// @formatter:on
+
+	/**
+	 * Read the definitions from the input stream. The consumer is invoked with the
+	 * id and (pruned) definition for each entry, in the order that they occur in
+	 * the stream.
+	 *
+	 * @param input    the response from ClearlyDefined (UTF-8)
+	 * @param consumer invoked for each definition
+	 * @throws JsonParsingException when the input is not valid JSON or is not
+	 *                              a JSON object
+	 */
+	public void read(InputStream input, BiConsumer<String, JsonObject> consumer) {
+		try (JsonParser parser = Json.createParser(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+			Event event = parser.next();
+			if (event != Event.START_OBJECT)
+				throw new JsonParsingException("Expected a JSON object.", parser.getLocation());
+
+			while ((event = parser.next()) != Event.END_OBJECT) {
+				String id = parser.getString();
+				event = parser.next();
+				if (event != Event.START_OBJECT) {
+					// Not a definition; ignore it.
+					JsonUtils.skip(parser, event);
+					continue;
+				}
+				consumer.accept(id, readObject(parser, FIELDS));
+			}
+		}
+	}
+
+	/**
+	 * Read the object that the parser is positioned on (i.e., we've just seen the
+	 * {@link Event#START_OBJECT}) and answer an object that contains only the
+	 * fields described by the filter.
+	 */
+	@SuppressWarnings("unchecked")
+	private JsonObject readObject(JsonParser parser, Map<String, Object> filter) {
+		JsonObjectBuilder builder = Json.createObjectBuilder();
+		while (parser.next() != Event.END_OBJECT) {
+			String key = parser.getString();
+			Event event = parser.next();
+			Object fields = filter.get(key);
+			if (fields == KEEP) {
+				builder.add(key, parser.getValue());
+			} else if (fields != null && event == Event.START_OBJECT) {
+				builder.add(key, readObject(parser, (Map<String, Object>) fields));
+			} else {
+				JsonUtils.skip(parser, event);
+			}
+		}
+		return builder.build();
+	}
+}
@@ -9,14 +9,19 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.clearlydefined;
 
-import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.dash.licenses.IContentData;
@@ -26,12 +31,16 @@ import org.eclipse.dash.licenses.ISettings;
 import org.eclipse.dash.licenses.LicenseSupport;
 import org.eclipse.dash.licenses.LicenseSupport.Status;
 import org.eclipse.dash.licenses.http.IHttpClientService;
+import org.eclipse.dash.licenses.util.AdaptiveBatchSize;
+import org.eclipse.dash.licenses.util.Futures;
 import org.eclipse.dash.licenses.util.JsonUtils;
+import org.eclipse.dash.licenses.util.Throttle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jakarta.inject.Inject;
-import jakarta.json.stream.JsonParsingException;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
 
 public class ClearlyDefinedSupport implements ILicenseDataProvider {
 	final Logger logger = LoggerFactory.getLogger(ClearlyDefinedSupport.class);
@@ -43,8 +52,28 @@ public class ClearlyDefinedSupport implements ILicenseDataProvider {
 	@Inject
 	LicenseSupport licenseService;
 
+	public static final int WEIGHT = ILicenseDataProvider.DEFAULT_WEIGHT;
+
+	/**
+	 * When we recover from an error, we split the request into this many parts.
+	 */
+	private static final int SPLIT = 8;
+
 	private Set<String> validTypes;
 	private Set<String> validProviders;
+	private AdaptiveBatchSize batchSize;
+
+	/**
+	 * Limits the number of requests that we send at the same time when we recover
+	 * from an error (see {@link #queryClearlyDefined(List, Consumer)}).
+	 */
+	private Throttle recovery;
+
+	/**
+	 * IDs that ClearlyDefined has failed to answer; we don't ask about these again
+	 * (the license data cache also remembers them for subsequent runs).
+	 */
+	private final Set<IContentId> problematicIds = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * The ClearlyDefined API expects a flat array of ids in JSON format in the
@@ -83,14 +112,29 @@ public class ClearlyDefinedSupport implements ILicenseDataProvider {
 	 */
 	@Override
 	public void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+		Futures.join(queryLicenseDataAsync(ids, consumer, Runnable::run));
+	}
+
+	/**
+	 * The requests are sent asynchronously (see
+	 * {@link IHttpClientService#postForStreamAsync(String, String, String, Consumer)}),
+	 * so no thread is tied up while we wait for ClearlyDefined to answer; this
+	 * includes the requests that we send when we recover from an error. The
+	 * executor is not used.
+	 */
+	@Override
+	public CompletableFuture<Void> queryLicenseDataAsync(Collection<IContentId> ids, Consumer<IContentData> consumer,
+			Executor executor) {
 		/*
 		 * Only ask ClearlyDefined for information about content that we know that it
 		 * may actually have an answer for.
 		 */
-		List<IContentId> filteredIds = ids.stream().filter(id -> isSupported(id)).collect(Collectors.toList());
+		List<IContentId> filteredIds = ids.stream()
+				.filter(id -> isSupported(id))
+				.collect(Collectors.toList());
 
 		if (filteredIds.isEmpty())
-			return;
+			return CompletableFuture.completedFuture(null);
 
 		logger.info("Querying ClearlyDefined for license data for {} items.", filteredIds.size());
 
@@ -98,7 +142,27 @@ public class ClearlyDefinedSupport implements ILicenseDataProvider {
 			filteredIds.forEach(each -> logger.debug("Sending: {}", each));
 		}
 
-		queryClearlyDefined(filteredIds, 0, filteredIds.size(), consumer);
+		return queryClearlyDefined(filteredIds, consumer);
+	}
+
+	@Override
+	public String getName() {
+		return ClearlyDefinedContentData.CLEARLYDEFINED;
+	}
+
+	@Override
+	public int getWeight() {
+		return WEIGHT;
+	}
+
+	/**
+	 * ClearlyDefined starts to answer HTTP 524 (timeout) errors when we send it
+	 * too much at once, so we adjust the batch size based on how long it takes to
+	 * answer and how often it fails.
+	 */
+	@Override
+	public int getBatchSize(int batchSize) {
+		return this.batchSize.get();
 	}
 
 	/**
@@ -112,11 +176,17 @@ public class ClearlyDefinedSupport implements ILicenseDataProvider {
 	 * the potentially useful results because of one (or more) problematic IDs.
 	 * 
 	 * <p>
-	 * When this happens, we split the content and attempt to invoke the API with
-	 * each half. This happens recursively, so eventually we end up sending just the
-	 * problematic IDs. We log the problematic IDs, but don't take any further
-	 * action. IDs with problematic results are effectively be treated as IDs for
-	 * which no information is found.
+	 * When this happens, we split the content into (up to) {@value #SPLIT} parts
+	 * and invoke the API with the parts at the same time; no more than the
+	 * parallelism (see {@link ISettings#getParallelism()}) of these requests are
+	 * in flight at once, so that we don't pile on the load that causes the HTTP
+	 * 524 errors in the first place. This happens recursively, so eventually we
+	 * end up sending just the problematic IDs. We log the problematic IDs and
+	 * don't send them again for the rest of the run. IDs with problematic results
+	 * are treated as IDs for which no information is found. The license data cache
+	 * remembers them across runs (see {@link #isSupported(IContentId)}); it backs
+	 * off on asking again in the same way as it does for content that
+	 * ClearlyDefined doesn't know about.
 	 * 
 	 * <p>
 	 * See https://github.com/clearlydefined/service/issues/957
@@ -128,52 +198,115 @@ public class ClearlyDefinedSupport implements ILicenseDataProvider {
 	 * <p>
 	 * See https://github.com/eclipse-dash/dash-licenses/issues/429
 	 */
-	private void queryClearlyDefined(List<IContentId> filteredIds, int start, int end,
-			Consumer<IContentData> consumer) {
-		try {
-			doQueryClearlyDefined(filteredIds, start, end, consumer);
-		} catch (ClearlyDefinedResponseException e) {
-			if (start + 1 == end) {
-				logger.info("Error querying ClearlyDefined for {}", filteredIds.get(start));
-			} else {
-				int middle = start + (end - start) / 2;
-				queryClearlyDefined(filteredIds, start, middle, consumer);
-				queryClearlyDefined(filteredIds, middle, end, consumer);
+	private CompletableFuture<Void> queryClearlyDefined(List<IContentId> ids, Consumer<IContentData> consumer) {
+		return queryClearlyDefined(ids, consumer, true);
+	}
+
+	/**
+	 * @param batch <code>true</code> when the ids are the batch that we were asked
+	 *              about, or <code>false</code> when they are a part of one that
+	 *              we're recovering with. Only the response to an entire batch
+	 *              tells us anything about the batch size (see
+	 *              {@link #getBatchSize(int)}); we'd otherwise shrink the batch size
+	 *              all the way down because of one problematic id.
+	 */
+	private CompletableFuture<Void> queryClearlyDefined(List<IContentId> ids, Consumer<IContentData> consumer,
+			boolean batch) {
+		/*
+		 * Only the request itself takes up a place; a part that we split again does
+		 * not hold on to it while we wait for its own parts.
+		 */
+		var query = batch ? doQueryClearlyDefined(ids, consumer, batch)
+				: recovery.submit(() -> doQueryClearlyDefined(ids, consumer, batch));
+		return query.handle((result, exception) -> {
+			if (exception == null)
+				return CompletableFuture.<Void>completedFuture(null);
+
+			var cause = Futures.unwrap(exception);
+			if (!(cause instanceof ClearlyDefinedResponseException))
+				return CompletableFuture.<Void>failedFuture(cause);
+
+			if (ids.size() == 1) {
+				logger.info("Error querying ClearlyDefined for {}", ids.get(0));
+				problematicIds.add(ids.get(0));
+				return CompletableFuture.<Void>completedFuture(null);
 			}
-		}
+
+			int size = (ids.size() + SPLIT - 1) / SPLIT;
+			List<CompletableFuture<Void>> parts = new ArrayList<>();
+			for (int start = 0; start < ids.size(); start += size) {
+				List<IContentId> part = ids.subList(start, Math.min(ids.size(), start + size));
+				parts.add(queryClearlyDefined(part, consumer, false));
+			}
+
+			return CompletableFuture.allOf(parts.toArray(CompletableFuture<?>[]::new));
+		}).thenCompose(Function.identity());
 	}
 
-	private void doQueryClearlyDefined(List<IContentId> ids, int start, int end, Consumer<IContentData> consumer) {
+	private ClearlyDefinedContentData getContentData(Map<String, IContentId> requested, String key,
+			JsonObject data) {
+		var id = requested.get(key);
+		if (id == null)
+			return new ClearlyDefinedContentData(key, data);
+		return new ClearlyDefinedContentData(id, data);
+	}
+
+	private CompletableFuture<Void> doQueryClearlyDefined(List<IContentId> ids, Consumer<IContentData> consumer,
+			boolean batch) {
 		// If there's nothing to do, bail out.
-		if (start == end)
-			return;
+		if (ids.isEmpty())
+			return CompletableFuture.completedFuture(null);
 
-		int code = httpClientService
-				.post(settings.getClearlyDefinedDefinitionsUrl(), "application/json",
-						JsonUtils.toJson(ids.subList(start, end)), response -> {
-							// FIXME Seems like overkill.
-							AtomicInteger counter = new AtomicInteger();
+		// Map the answers back to the ids that we asked about.
+		Map<String, IContentId> requested = new HashMap<>();
+		ids.forEach(id -> requested.put(id.toString(), id));
 
+		List<ClearlyDefinedContentData> results = new ArrayList<>();
+		long started = System.currentTimeMillis();
+		return httpClientService
+				.postForStreamAsync(settings.getClearlyDefinedDefinitionsUrl(), "application/json",
+						JsonUtils.toJson(ids), response -> {
 							try {
-								JsonUtils.readJson(new StringReader(response)).forEach((key, each) -> {
-									ClearlyDefinedContentData data = new ClearlyDefinedContentData(key,
-											each.asJsonObject());
-									data.setStatus(isAccepted(data) ? Status.Approved : Status.Restricted);
-									consumer.accept(data);
-									counter.incrementAndGet();
-									logger
-											.debug("ClearlyDefined {} score: {} {} {}", data.getId(), data.getScore(),
-													data.getLicense(),
-													data.getStatus() == Status.Approved ? "approved" : "restricted");
-								});
-
-								logger.info("Found {} items.", counter.get());
-							} catch (JsonParsingException e) {
-								logger.error("Could not parse the response from ClearlyDefined: {}.", response);
+								new ClearlyDefinedResponseReader().read(response,
+										(key, each) -> results.add(getContentData(requested, key, each)));
+							} catch (JsonException e) {
+								logger.error("Could not parse the response from ClearlyDefined.");
 								logger.debug(e.getMessage(), e);
 								throw new ClearlyDefinedResponseException(e);
 							}
-						});
+						})
+				.whenComplete((code, exception) -> {
+					if (!batch)
+						return;
+					if (exception == null) {
+						batchSize.record(ids.size(), System.currentTimeMillis() - started, code);
+					} else {
+						batchSize.recordFailure(ids.size());
+					}
+				})
+				.thenAccept(code -> handleResults(code, results, consumer));
+	}
+
+	private void handleResults(int code, List<ClearlyDefinedContentData> results, Consumer<IContentData> consumer) {
+
+		/*
+		 * We only hand results over once the entire response has been read; if the
+		 * response turns out to be bad part way through, none of it is used. The
+		 * same consumer may be used for several batches that are answered at the
+		 * same time; the consumer only gets the results from one of them at a time.
+		 */
+		synchronized (consumer) {
+			results.forEach(data -> {
+				setStatus(data);
+				consumer.accept(data);
+				logger
+						.debug("ClearlyDefined {} score: {} {} {}", data.getId(), data.getScore(), data.getLicense(),
+								data.getStatus() == Status.Approved ? "approved" : "restricted");
+			});
+		}
+
+		if (code == 200)
+			logger.info("Found {} items.", results.size());
 
 		if (code == 500 || code == 524) {
 			logger.error("A server error (HTTP {}) occurred while contacting ClearlyDefined", code);
@@ -187,17 +320,37 @@ public class ClearlyDefinedSupport implements ILicenseDataProvider {
 	}
 
 	/**
-	 * Answers whether or not this id is supported by ClearlyDefined.
+	 * The status of a result depends on the settings (the confidence threshold and
+	 * the approved licenses), so we determine it again when the result is
+	 * restored from the cache.
+	 */
+	@Override
+	public IContentData restoreContentData(IContentId id, JsonObject data) {
+		var contentData = new ClearlyDefinedContentData(id, data);
+		setStatus(contentData);
+		return contentData;
+	}
+
+	private void setStatus(ClearlyDefinedContentData data) {
+		data.setStatus(isAccepted(data) ? Status.Approved : Status.Restricted);
+	}
+
+	/**
+	 * Answers whether or not this id is supported by ClearlyDefined. We don't ask
+	 * about ids that ClearlyDefined has failed to answer (see
+	 * {@link #queryClearlyDefined(List, Consumer)}); since this changes while we
+	 * query, the license data cache records these ids as ones that we gave up on.
 	 * 
 	 * @param id
 	 * @return
 	 */
-	private boolean isSupported(IContentId id) {
+	@Override
+	public boolean isSupported(IContentId id) {
 		if (!validTypes.contains(id.getType()))
 			return false;
 		if (!validProviders.contains(id.getSource()))
 			return false;
-		return true;
+		return !problematicIds.contains(id);
 	}
 
 	/**
@@ -250,6 +403,8 @@ public class ClearlyDefinedSupport implements ILicenseDataProvider {
 		 */
 		validTypes = new HashSet<>();
 		validProviders = new HashSet<>();
+		batchSize = new AdaptiveBatchSize(settings.getBatchSize());
+		recovery = new Throttle(settings.getParallelism());
 
 		validTypes.addAll(Arrays.asList(new String[] { "npm", "conda", "condasrc", "crate", "git", "maven", "composer",
 				"nuget", "gem", "go", "pod", "pypi", "sourcearchive", "deb", "debsrc" }));
@@ -12,9 +12,14 @@ package org.eclipse.dash.licenses.cli;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.eclipse.dash.licenses.IContentId;
 import org.eclipse.dash.licenses.LicenseData;
 import org.eclipse.dash.licenses.LicenseSupport.Status;
 
@@ -25,10 +30,22 @@ import org.eclipse.dash.licenses.LicenseSupport.Status;
  */
 public class CSVCollector implements IResultsCollector {
 	private PrintWriter output;
+	private boolean includeInputs;
 	private List<LicenseData> content = new ArrayList<>();
+	private Map<IContentId, Collection<String>> inputs = new HashMap<>();
 
 	public CSVCollector(OutputStream output) {
+		this(output, false);
+	}
+
+	/**
+	 * @param output        the stream to write to
+	 * @param includeInputs whether or not to add the input files that content is
+	 *                      found in to each line (when they're provided).
+	 */
+	public CSVCollector(OutputStream output, boolean includeInputs) {
 		this.output = new PrintWriter(output);
+		this.includeInputs = includeInputs;
 	}
 
 	@Override
@@ -36,6 +53,13 @@ public class CSVCollector implements IResultsCollector {
 		content.add(data);
 	}
 
+	@Override
+	public void accept(LicenseData data, Collection<String> inputs) {
+		if (includeInputs)
+			this.inputs.put(data.getId(), inputs);
+		accept(data);
+	}
+
 	@Override
 	public void close() {
 		// FIXME Use a proper CSV framework
@@ -44,7 +68,22 @@ public class CSVCollector implements IResultsCollector {
 				.forEach(data -> output.println(String.format("%s, %s, %s, %s", data.getId(),
 						Optional.ofNullable(data.getLicense()).orElse("unknown"),
 						data.getStatus() == Status.Approved ? "approved" : "restricted",
-						Optional.ofNullable(data.getAuthority()).orElse("none"))));
+						Optional.ofNullable(data.getAuthority()).orElse("none")) + getInputs(data)));
 		output.flush();
 	}
+
+	/**
+	 * The input files are added to the end of the line, each in a column of its
+	 * own. File names may include spaces, commas, etc., so we quote them.
+	 */
+	private String getInputs(LicenseData data) {
+		var found = inputs.get(data.getId());
+		if (found == null)
+			return "";
+		return found.stream().map(name -> ", " + quote(name)).collect(Collectors.joining());
+	}
+
+	private String quote(String value) {
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
 }
@@ -25,8 +25,13 @@ public class CommandLineSettings implements ISettings {
 	private static final String HELP_OPTION = "help";
 	private static final String TIMEOUT_OPTION = "timeout";
 	private static final String BATCH_OPTION = "batch";
+	private static final String PARALLELISM_OPTION = "parallelism";
 	private static final String CONFIDENCE_OPTION = "confidence";
 	private static final String SUMMARY_OPTION = "summary";
+	private static final String CACHE_OPTION = "cache";
+	private static final String SNAPSHOT_OPTION = "snapshot";
+	private static final String DEDUP_OPTION = "dedup";
+	private static final String SUMMARY_INPUTS_OPTION = "summaryInputs";
 	private static final String REVIEW_OPTION = "review";
 	private static final String EXCLUDE_SOURCES_OPTION = "excludeSources";
 	private static final String TOKEN_OPTION = "token";
@@ -46,6 +51,16 @@ public class CommandLineSettings implements ISettings {
 		}
 	}
 
+	@Override
+	public int getParallelism() {
+		try {
+			return commandLine.getParsedOptionValue(PARALLELISM_OPTION, () -> ISettings.super.getParallelism()).intValue();
+		} catch (ParseException e) {
+			// isValid() rejects command lines with a value that doesn't parse.
+			throw new IllegalStateException(e);
+		}
+	}
+
 	@Override
 	public int getTimeout() {
 		try {
@@ -98,6 +113,9 @@ public class CommandLineSettings implements ISettings {
 				commandLine.getParsedOptionValue(BATCH_OPTION);
 			if (commandLine.hasOption(CONFIDENCE_OPTION))
 				commandLine.getParsedOptionValue(CONFIDENCE_OPTION);
+			if (commandLine.hasOption(PARALLELISM_OPTION))
+				if (((Number) commandLine.getParsedOptionValue(PARALLELISM_OPTION)).intValue() < 1)
+					return false;
 
 			return true;
 		} catch (ParseException e) {
@@ -123,6 +141,23 @@ public class CommandLineSettings implements ISettings {
 		return commandLine.hasOption(REVIEW_OPTION);
 	}
 
+	/**
+	 * Answer whether or not content that appears in more than one input file
+	 * should be checked (and reported) only once.
+	 */
+	public boolean isDeduplicate() {
+		return commandLine.hasOption(DEDUP_OPTION);
+	}
+
+	/**
+	 * Answer whether or not the summary should include the input files that each
+	 * content id was found in. We only know this when content is deduplicated
+	 * (see {@link #isDeduplicate()}).
+	 */
+	public boolean isSummaryInputs() {
+		return commandLine.hasOption(SUMMARY_INPUTS_OPTION);
+	}
+
 	private CommandLineSettings(CommandLine commandLine) {
 		this.commandLine = commandLine;
 	}
@@ -152,7 +187,7 @@ public class CommandLineSettings implements ISettings {
 			.argName("seconds")
 			.type(Integer.class)
 			.desc("Timeout for HTTP calls (in seconds)")
-			.build());
+			.get());
 
 		options.addOption(Option.builder(BATCH_OPTION)
 			.required(false)
@@ -160,7 +195,15 @@ public class CommandLineSettings implements ISettings {
 			.argName("int")
 			.type(Integer.class)
 			.desc("Batch size (number of entries sent per API call)")
-			.build());
+			.get());
+
+		options.addOption(Option.builder(PARALLELISM_OPTION)
+			.required(false)
+			.hasArg()
+			.argName("int")
+			.type(Integer.class)
+			.desc("Number of API calls sent to a license data provider at the same time")
+			.get());
 
 		options.addOption(Option.builder(CONFIDENCE_OPTION)
 			.required(false)
@@ -169,7 +212,7 @@ public class CommandLineSettings implements ISettings {
 			.type(Integer.class)
 			.desc("The minimum licence score to approve components based on licence data received from ClearlyDefined, "
 					+ "expressed as integer percent (0-100). Use this option carefully.")
-			.build());
+			.get());
 
 		options.addOption(Option.builder(SUMMARY_OPTION)
 			.required(false)
@@ -177,20 +220,48 @@ public class CommandLineSettings implements ISettings {
 			.argName("file")
 			.type(String.class)
 			.desc("Output a summary to a file")
-			.build());
+			.get());
+
+		options.addOption(Option.builder(CACHE_OPTION)
+			.required(false)
+			.hasArg()
+			.argName("file")
+			.type(String.class)
+			.desc("Cache license data in a file between runs")
+			.get());
+
+		options.addOption(Option.builder(SNAPSHOT_OPTION)
+			.required(false)
+			.hasArg()
+			.argName("path")
+			.type(String.class)
+			.desc("Answer license data from a snapshot (or a directory of snapshots) instead of the servers")
+			.get());
+
+		options.addOption(Option.builder(DEDUP_OPTION)
+			.required(false)
+			.hasArg(false)
+			.desc("Check content found in many files only once")
+			.get());
+
+		options.addOption(Option.builder(SUMMARY_INPUTS_OPTION)
+			.required(false)
+			.hasArg(false)
+			.desc("Add the input files that content is found in to the summary (with -dedup)")
+			.get());
 
 		options.addOption(Option.builder(REVIEW_OPTION)
 			.required(false)
 			.hasArg(false)
 			.desc("Must also specify the project and token")
-			.build());
+			.get());
 
 		options.addOption(Option.builder(EXCLUDE_SOURCES_OPTION)
 			.required(false)
 			.hasArg(true)
 			.argName("sources")
 			.desc("Exclude values from specific sources")
-			.build());
+			.get());
 		
 		options.addOption(Option.builder(TOKEN_OPTION)
 			.required(false)
@@ -198,7 +269,7 @@ public class CommandLineSettings implements ISettings {
 			.argName("token")
 			.type(String.class)
 			.desc("The GitLab authentication token")
-			.build());
+			.get());
 		
 		options.addOption(Option.builder(PROJECT_OPTION)
 			.required(false)
@@ -206,7 +277,7 @@ public class CommandLineSettings implements ISettings {
 			.argName("shortname")
 			.type(String.class)
 			.desc("Process the request in the context of an Eclipse project (e.g., technology.dash)")
-			.build());
+			.get());
 
 		options.addOption(Option.builder(REPO_OPTION)
 			.required(false)
@@ -214,14 +285,14 @@ public class CommandLineSettings implements ISettings {
 			.argName("url")
 			.type(String.class)
 			.desc("The Eclipse Project repository that is the source of the request")
-			.build());
+			.get());
 		
 		options.addOption(Option.builder(HELP_OPTION)
 			.longOpt(HELP_OPTION)
 			.required(false)
 			.hasArg(false)
 			.desc("Display help")
-			.build());
+			.get());
 
 		return options;
 	}
@@ -251,6 +322,16 @@ public class CommandLineSettings implements ISettings {
 		return commandLine.getOptionValue(SUMMARY_OPTION, () -> ISettings.super.getSummaryFilePath());
 	}
 
+	@Override
+	public String getCacheFilePath() {
+		return commandLine.getOptionValue(CACHE_OPTION, () -> ISettings.super.getCacheFilePath());
+	}
+
+	@Override
+	public String getSnapshotPath() {
+		return commandLine.getOptionValue(SNAPSHOT_OPTION, () -> ISettings.super.getSnapshotPath());
+	}
+
 	@Override
 	public String getProjectId() {
 		return commandLine.getOptionValue(PROJECT_OPTION, () -> ISettings.super.getProjectId());
@@ -0,0 +1,54 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.cli;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.LicenseChecker;
+
+/**
+ * Instances of {@link DeduplicatingCheck} check content that is found in more
+ * than one input file only once (see the <code>-dedup</code> option). All of
+ * the inputs are read first, keeping track of the files that each content id is
+ * found in; then each unique content id is checked and reported to the
+ * collectors along with the files that it was found in.
+ */
+public class DeduplicatingCheck {
+	private final Map<IContentId, Set<String>> inputs = new LinkedHashMap<>();
+
+	/**
+	 * Add the content ids found in an input file.
+	 *
+	 * @param name the name of the input file
+	 * @param ids  the content ids found in the file
+	 */
+	public void add(String name, Stream<IContentId> ids) {
+		ids.forEach(id -> inputs.computeIfAbsent(id, key -> new LinkedHashSet<>()).add(name));
+	}
+
+	/**
+	 * Check each unique content id and report the results to the collectors.
+	 *
+	 * @param checker    the license checker
+	 * @param collectors the collectors to report the results to
+	 */
+	public void check(LicenseChecker checker, Collection<IResultsCollector> collectors) {
+		checker.getLicenseData(inputs.keySet().stream(), licenseData -> {
+			var found = inputs.get(licenseData.getId());
+			collectors.forEach(collector -> collector.accept(licenseData, found));
+		});
+	}
+}
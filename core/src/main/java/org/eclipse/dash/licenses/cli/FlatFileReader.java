@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.dash.licenses.ClearlyDefinedIdParser;
 import org.eclipse.dash.licenses.ContentIdParser;
@@ -43,16 +44,33 @@ public class FlatFileReader implements IDependencyListReader {
 
 	@Override
 	public List<IContentId> getContentIds() {
+		return streamContentIds().collect(Collectors.toList());
+	}
+
+	/**
+	 * Answer the content IDs as they are read from the input.
+	 */
+	@Override
+	public Stream<IContentId> streamContentIds() {
 		// @formatter:off
 		return reader.lines()
 			.filter(FlatFileReader::isLineThatWeShouldBotherLookingAt)
 			.filter(line -> !line.isBlank())
 			.map(this::getContentId)
-			.distinct()
-			.collect(Collectors.toList());
+			.distinct();
 		// @formatter:on
 	}
 
+	/**
+	 * Answer the content id for a line from the flat file. Each parser is given
+	 * the opportunity to parse the value in order. The parsers only run the
+	 * (relatively expensive) full parse on values that have the right general
+	 * shape (see {@link ContentIdParser#isCandidate(String)}), so in practice
+	 * most lines are only ever fully parsed by a single parser.
+	 * 
+	 * @param value a line from the flat file
+	 * @return an {@link IContentId}; never <code>null</code>.
+	 */
 	public IContentId getContentId(String value) {
 		// @formatter:off
 		return parsers.stream()
@@ -10,6 +10,7 @@
 package org.eclipse.dash.licenses.cli;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 import org.eclipse.dash.licenses.IContentId;
 
@@ -17,4 +18,16 @@ public interface IDependencyListReader {
 
 	Collection<IContentId> getContentIds();
 
+	/**
+	 * Answer the same content IDs as {@link #getContentIds()}, but as a stream.
+	 * Implementors that are able to do so should produce the IDs lazily, i.e.,
+	 * while reading the input, so that downstream processing can start before the
+	 * entire input has been read.
+	 * 
+	 * @return a stream of content IDs
+	 */
+	default Stream<IContentId> streamContentIds() {
+		return getContentIds().stream();
+	}
+
 }
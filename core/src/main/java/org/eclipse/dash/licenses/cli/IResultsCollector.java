@@ -9,12 +9,25 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.cli;
 
+import java.util.Collection;
+
 import org.eclipse.dash.licenses.LicenseData;
 
 public interface IResultsCollector {
 
 	void accept(LicenseData data);
 
+	/**
+	 * Accept license data along with the names of the input files that the
+	 * content was found in. By default, the input files are ignored.
+	 * 
+	 * @param data   the license data
+	 * @param inputs the names of the input files
+	 */
+	default void accept(LicenseData data, Collection<String> inputs) {
+		accept(data);
+	}
+
 	default void close() {
 	}
 
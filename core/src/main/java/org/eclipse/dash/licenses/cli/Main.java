@@ -17,9 +17,8 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.dash.licenses.IContentId;
 import org.eclipse.dash.licenses.LicenseChecker;
@@ -99,7 +98,7 @@ public class Main {
 		String summaryPath = settings.getSummaryFilePath();
 		if (summaryPath != null) {
 			try {
-				collectors.add(new CSVCollector(getWriter(summaryPath)));
+				collectors.add(new CSVCollector(getWriter(summaryPath), settings.isSummaryInputs()));
 			} catch (FileNotFoundException e1) {
 				System.out.println("Can't write to " + summaryPath);
 				System.exit(INTERNAL_ERROR);
@@ -111,41 +110,54 @@ public class Main {
 					.add(new CreateReviewRequestCollector(injector.getInstance(GitLabSupport.class), (id, url) -> {}));
 		}
 
-		Arrays.stream(settings.getFileNames()).forEach(name -> {
-			IDependencyListReader reader = null;
-			try {
-				reader = getReader(name);
-			} catch (FileNotFoundException e) {
-				System.out.println(String.format("The file \"%s\" does not exist.", name));
-				CommandLineSettings.printUsage(System.out);
-				System.exit(INTERNAL_ERROR);
-			}
-			if (reader != null) {
-				var filter = new ExcludedSourcesFilter(settings.getExcludedSources());
-
-				Collection<IContentId> dependencies = reader
-						.getContentIds()
-						.stream()
-						.filter(each -> filter.keep(each))
-						.collect(Collectors.toList());
-
-				try {
-					checker.getLicenseData(dependencies).forEach((id, licenseData) -> {
-						collectors.forEach(collector -> collector.accept(licenseData));
-					});
-				} catch (RuntimeException e) {
-					System.out.println(e.getMessage());
-					logger.debug(e.getMessage(), e);
-					System.exit(INTERNAL_ERROR);
-				}
-			}
-		});
+		var filter = new ExcludedSourcesFilter(settings.getExcludedSources());
+
+		if (settings.isDeduplicate()) {
+			var deduplicated = new DeduplicatingCheck();
+			Arrays.stream(settings.getFileNames()).forEach(name -> {
+				deduplicated.add(name, openReader(name).streamContentIds().filter(each -> filter.keep(each)));
+			});
+
+			check(() -> deduplicated.check(checker, collectors));
+		} else {
+			Arrays.stream(settings.getFileNames()).forEach(name -> {
+				// Content ids are read, checked, and reported as we go.
+				Stream<IContentId> dependencies = openReader(name)
+						.streamContentIds()
+						.filter(each -> filter.keep(each));
+
+				check(() -> checker.getLicenseData(dependencies, licenseData -> {
+					collectors.forEach(collector -> collector.accept(licenseData));
+				}));
+			});
+		}
 
 		collectors.forEach(IResultsCollector::close);
 
 		System.exit(Math.min(primaryCollector.getStatus(), INTERNAL_ERROR - 1));
 	}
 
+	private void check(Runnable check) {
+		try {
+			check.run();
+		} catch (RuntimeException e) {
+			System.out.println(e.getMessage());
+			logger.debug(e.getMessage(), e);
+			System.exit(INTERNAL_ERROR);
+		}
+	}
+
+	private IDependencyListReader openReader(String name) {
+		try {
+			return getReader(name);
+		} catch (FileNotFoundException e) {
+			System.out.println(String.format("The file \"%s\" does not exist.", name));
+			CommandLineSettings.printUsage(System.out);
+			System.exit(INTERNAL_ERROR);
+			return null;
+		}
+	}
+
 	private OutputStream getWriter(String path) throws FileNotFoundException {
 		if ("-".equals(path))
 			return System.out;
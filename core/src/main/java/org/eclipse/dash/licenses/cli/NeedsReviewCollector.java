@@ -11,8 +11,12 @@ package org.eclipse.dash.licenses.cli;
 
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.dash.licenses.IContentId;
 import org.eclipse.dash.licenses.LicenseData;
 import org.eclipse.dash.licenses.LicenseSupport.Status;
 import org.slf4j.Logger;
@@ -27,6 +31,7 @@ public class NeedsReviewCollector implements IResultsCollector {
 	final Logger logger = LoggerFactory.getLogger(NeedsReviewCollector.class);
 
 	private List<LicenseData> needsReview = new ArrayList<>();
+	private Map<IContentId, Collection<String>> inputs = new HashMap<>();
 
 	public NeedsReviewCollector() {
 	}
@@ -38,6 +43,14 @@ public class NeedsReviewCollector implements IResultsCollector {
 		}
 	}
 
+	@Override
+	public void accept(LicenseData data, Collection<String> inputs) {
+		if (data.getStatus() != Status.Approved) {
+			this.inputs.put(data.getId(), inputs);
+		}
+		accept(data);
+	}
+
 	@Override
 	public void close() {
 		if (needsReview.isEmpty()) {
@@ -45,12 +58,24 @@ public class NeedsReviewCollector implements IResultsCollector {
 		} else {
 			logger.info("License information could not be automatically verified for the following content:");
 			logger.info("");
-			needsReview.stream().map(LicenseData::getId).map(each -> each.toString()).sorted().forEach(logger::info);
+			needsReview.stream().map(LicenseData::getId).sorted((a, b) -> a.toString().compareTo(b.toString()))
+					.map(this::describe).forEach(logger::info);
 			logger.info("");
 			logger.info("This content is either not correctly mapped by the system, or requires review.");
 		}
 	}
 
+	/**
+	 * Describe the content id, including the input files that it was found in
+	 * (when we know them).
+	 */
+	private String describe(IContentId id) {
+		var found = inputs.get(id);
+		if (found == null || found.isEmpty())
+			return id.toString();
+		return String.format("%s (%s)", id, String.join(", ", found));
+	}
+
 	@Override
 	public int getStatus() {
 		return needsReview.size();
@@ -10,12 +10,18 @@
 package org.eclipse.dash.licenses.cli;
 
 import java.io.Reader;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.dash.licenses.ContentId;
 import org.eclipse.dash.licenses.IContentId;
@@ -24,16 +30,24 @@ import org.eclipse.dash.licenses.util.JsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 
 public class PackageLockFileReader implements IDependencyListReader {
 	final Logger logger = LoggerFactory.getLogger(PackageLockFileReader.class);
 	private static final Pattern Name_Pattern = Pattern.compile("(?:(?<scope>@[^\\/]+)\\/)?(?<name>[^\\/]+)$");
 
 	private final Reader input;
-	private JsonObject json;
+	/**
+	 * The workspace globs from the root package, compiled into a single pattern;
+	 * <code>null</code> when there are no workspaces.
+	 */
+	private Pattern workspaces;
 
 	public PackageLockFileReader(Reader input) {
 		this.input = input;
@@ -177,49 +191,213 @@ public class PackageLockFileReader implements IDependencyListReader {
 		Dependency(String key, JsonObject value) {
 			super(key, value);
 		}
+	}
 
-		Stream<Dependency> getDependencies() {
-			JsonObject dependencies = value.getJsonObject("dependencies");
-			if (dependencies == null)
-				return Stream.empty();
+	@Override
+	public Collection<IContentId> getContentIds() {
+		return streamContentIds().collect(Collectors.toList());
+	}
 
-			return dependencies.entrySet().stream()
-					.map(each -> new Dependency(each.getKey(), each.getValue().asJsonObject()));
-		}
+	@Override
+	public Stream<IContentId> streamContentIds() {
+		return contentIds().filter(contentId -> "local" != contentId.getSource());
+	}
+
+	/**
+	 * Answer the content ids from the file. The file is scanned as the stream is
+	 * consumed; content ids are produced as the corresponding entries are
+	 * encountered, without first reading the entire file into memory.
+	 */
+	public Stream<IContentId> contentIds() {
+		var parser = Json.createParser(input);
+		return StreamSupport.stream(new ContentIdScanner(parser), false).onClose(parser::close);
+	}
+
+	/**
+	 * The scanner walks through the JSON events and produces the content ids from
+	 * either the <code>packages</code> (version 2 and 3) or the
+	 * <code>dependencies</code> (version 1). Only one package entry (or, for
+	 * version 1, the entries on the path to the current dependency) is held in
+	 * memory at a time.
+	 * 
+	 * <p>
+	 * The root package (the one that has an empty string as the key) provides the
+	 * workspaces. npm writes the root package first; we don't consider a root
+	 * package that appears after other packages.
+	 */
+	class ContentIdScanner extends Spliterators.AbstractSpliterator<IContentId> {
+		private final JsonParser parser;
+		private final Deque<IContentId> ready = new ArrayDeque<>();
 
 		/**
-		 * Flatten the arbitrary hierarchy (tree) of dependencies into a single stream.
+		 * For version 1, the stack contains a frame for each dependency that we are
+		 * in the middle of reading, along with frames (with no key) for each
+		 * <code>dependencies</code> object that we are in the middle of reading.
 		 */
-		Stream<Dependency> stream() {
-			return Stream.concat(Stream.of(this), getDependencies().flatMap(Dependency::stream));
+		private final Deque<DependencyFrame> dependencies = new ArrayDeque<>();
+		private boolean inPackages = false;
+		private boolean seenPackages = false;
+		private boolean seenPackage = false;
+		private int lockfileVersion = -1;
+		private boolean done = false;
+
+		ContentIdScanner(JsonParser parser) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.parser = parser;
 		}
-	}
 
-	@Override
-	public Collection<IContentId> getContentIds() {
-		return contentIds().filter(contentId -> "local" != contentId.getSource()).collect(Collectors.toList());
-	}
+		@Override
+		public boolean tryAdvance(Consumer<? super IContentId> action) {
+			while (ready.isEmpty() && !done) {
+				step();
+			}
+			if (ready.isEmpty())
+				return false;
+			action.accept(ready.removeFirst());
+			return true;
+		}
 
-	public Stream<IContentId> contentIds() {
-		json = JsonUtils.readJson(input);
-
-		switch (json.getJsonNumber("lockfileVersion").intValue()) {
-		case 1:
-			return new Dependency("", json).stream().filter(each -> !each.key.isEmpty())
-					.map(dependency -> dependency.getContentId());
-		case 2:
-		case 3:
-			// @formatter:off
-			return json.getJsonObject("packages").entrySet().stream()
-					.filter(entry -> !entry.getKey().isEmpty())
-					.map(entry -> new Package(entry.getKey(), entry.getValue().asJsonObject()))
-					.flatMap(item -> item.getPackages().stream())
-					.filter(item -> !item.isProjectContent())
-					.map(dependency -> dependency.getContentId());
-			// @formatter:on
+		private void step() {
+			if (!parser.hasNext()) {
+				done = true;
+			} else if (inPackages) {
+				stepPackages();
+			} else if (!dependencies.isEmpty()) {
+				stepDependencies();
+			} else {
+				stepTopLevel();
+			}
+		}
+
+		private void stepTopLevel() {
+			var event = parser.next();
+			if (event != Event.KEY_NAME)
+				return;
+
+			switch (parser.getString()) {
+			case "lockfileVersion":
+				parser.next();
+				lockfileVersion = parser.getInt();
+				break;
+			case "packages":
+				seenPackages = true;
+				event = parser.next();
+				if (event != Event.START_OBJECT || lockfileVersion == 1) {
+					skip(event);
+				} else {
+					inPackages = true;
+				}
+				break;
+			case "dependencies":
+				event = parser.next();
+				if (event != Event.START_OBJECT || seenPackages || lockfileVersion > 1) {
+					skip(event);
+				} else {
+					dependencies.push(new DependencyFrame(null));
+				}
+				break;
+			default:
+				skip(parser.next());
+			}
+		}
+
+		private void stepPackages() {
+			var event = parser.next();
+			if (event == Event.END_OBJECT) {
+				inPackages = false;
+				return;
+			}
+
+			var key = parser.getString();
+			event = parser.next();
+			if (event != Event.START_OBJECT) {
+				skip(event);
+				return;
+			}
+			var value = parser.getObject();
+
+			if (key.isEmpty()) {
+				if (!seenPackage)
+					workspaces = getWorkspaces(value);
+			} else {
+				var item = new Package(key, value);
+				if (!item.isProjectContent())
+					ready.add(item.getContentId());
+			}
+			seenPackage = true;
 		}
 
-		return Stream.empty();
+		private void stepDependencies() {
+			var frame = dependencies.peek();
+			var event = parser.next();
+
+			if (event == Event.END_OBJECT) {
+				dependencies.pop();
+				frame.emit();
+				return;
+			}
+
+			var key = parser.getString();
+			event = parser.next();
+			if (frame.isContainer()) {
+				if (event == Event.START_OBJECT) {
+					dependencies.push(new DependencyFrame(key));
+				} else {
+					skip(event);
+				}
+			} else if ("dependencies".equals(key) && event == Event.START_OBJECT) {
+				if (frame.hasVersion)
+					frame.emit();
+				dependencies.push(new DependencyFrame(null));
+			} else {
+				frame.add(key, parser.getValue());
+			}
+		}
+
+		private void skip(Event event) {
+			JsonUtils.skip(parser, event);
+		}
+
+		/**
+		 * A dependency that is being read, or (when the key is <code>null</code>) a
+		 * <code>dependencies</code> object that is being read.
+		 */
+		class DependencyFrame {
+			final String key;
+			final JsonObjectBuilder value = Json.createObjectBuilder();
+			boolean hasVersion = false;
+			boolean emitted = false;
+
+			DependencyFrame(String key) {
+				this.key = key;
+			}
+
+			boolean isContainer() {
+				return key == null;
+			}
+
+			void add(String name, JsonValue member) {
+				if (emitted)
+					return;
+				value.add(name, member);
+				if ("version".equals(name))
+					hasVersion = true;
+			}
+
+			/**
+			 * Emit the content id for the dependency. We emit the content id as soon as we
+			 * have the values that we need from the dependency: npm writes the version
+			 * (and the rest of the values that we need) before the nested dependencies,
+			 * so we can usually emit the dependency before its nested dependencies;
+			 * otherwise, we emit it at the end.
+			 */
+			void emit() {
+				if (isContainer() || emitted)
+					return;
+				emitted = true;
+				ready.add(new Dependency(key, value.build()).getContentId());
+			}
+		}
 	}
 
 	/**
@@ -241,30 +419,23 @@ public class PackageLockFileReader implements IDependencyListReader {
 	 */
 	boolean isInWorkspace(String value) {
 		if (value == null) return false;
+		if (workspaces == null) return false;
 
-		return getWorkspaces().anyMatch(each -> glob(each, value));
-	}
-
-	private Stream<String> getWorkspaces() {
-		return getRootPackage()
-				.getOrDefault("workspaces", JsonValue.EMPTY_JSON_ARRAY).asJsonArray()
-				.getValuesAs(JsonString.class).stream().map(JsonString::getString);
+		return workspaces.matcher(value).matches();
 	}
 
 	/**
-	 * The root package is the one that has an empty string as the key. It's not at
-	 * all clear to me whether package-lock.json file have more than one package;
-	 * more research is required.
+	 * Answer a single pattern that matches any of the workspaces specified in the
+	 * root package (or <code>null</code> if there are no workspaces). We check every
+	 * package against the workspaces, so we compile the globs once, up front.
 	 */
-	private JsonObject getRootPackage() {
-		return getPackages().entrySet().stream()
-				.filter(entry -> entry.getKey().isEmpty())
-				.map(entry -> entry.getValue().asJsonObject())
-				.findFirst().orElse(JsonValue.EMPTY_JSON_OBJECT);
-	}
-
-	private JsonObject getPackages() {
-		return json.getOrDefault("packages", JsonValue.EMPTY_JSON_OBJECT).asJsonObject();
+	private Pattern getWorkspaces(JsonObject rootPackage) {
+		var globs = rootPackage
+				.getOrDefault("workspaces", JsonValue.EMPTY_JSON_ARRAY).asJsonArray()
+				.getValuesAs(JsonString.class).stream().map(JsonString::getString)
+				.map(each -> "(?:" + toRegex(each) + ")")
+				.collect(Collectors.joining("|"));
+		return globs.isEmpty() ? null : Pattern.compile(globs);
 	}
 
 	/**
@@ -273,7 +444,10 @@ public class PackageLockFileReader implements IDependencyListReader {
 	 * to regex that should hopefully suit most of our requirements.
 	 */
 	boolean glob(String pattern, String value) {
-		var regex = pattern.replace("/", "\\/").replace(".", "/.").replace("*", ".*");
-		return Pattern.matches(regex, value);
+		return Pattern.matches(toRegex(pattern), value);
+	}
+
+	private static String toRegex(String glob) {
+		return glob.replace("/", "\\/").replace(".", "/.").replace("*", ".*");
 	}
 }
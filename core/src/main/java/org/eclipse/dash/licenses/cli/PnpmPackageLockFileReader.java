@@ -12,23 +12,27 @@ package org.eclipse.dash.licenses.cli;
 
 import java.io.Reader;
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.dash.licenses.ContentId;
 import org.eclipse.dash.licenses.IContentId;
 import org.eclipse.dash.licenses.InvalidContentId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.SafeConstructor;
-import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
 
 /**
  * This class is responsible for reading a pnpm-lock.yaml generated by the PNPM
@@ -37,7 +41,8 @@ import org.yaml.snakeyaml.representer.Representer;
  *
  * The class implements the IDependencyListReader interface.
  *
- * The class uses the SnakeYAML library to parse the pnpm-lock.yaml file.
+ * The class uses the SnakeYAML library to parse the pnpm-lock.yaml file. We
+ * use the low-level event parser rather than load the whole document.
  * Content ID is extracted only from the keys of the packages section of the
  * pnpm-lock file. The main magic is done by the regex: KEY_PATTERN.
  *
@@ -65,7 +70,12 @@ public class PnpmPackageLockFileReader implements IDependencyListReader {
 	 */
 	@Override
 	public Collection<IContentId> getContentIds() {
-		return contentIds().distinct().collect(Collectors.toList());
+		return streamContentIds().collect(Collectors.toList());
+	}
+
+	@Override
+	public Stream<IContentId> streamContentIds() {
+		return contentIds().distinct();
 	}
 
 	/**
@@ -95,32 +105,114 @@ public class PnpmPackageLockFileReader implements IDependencyListReader {
 	 *
 	 * /@babel/preset-modules@0.1.6-no-external-plugins(@babel/core@7.23.2):
 	 *
+	 * <p>
+	 * Rather than load the entire document, we walk the YAML events and skip
+	 * over everything that is not a key in the packages section. The stream is
+	 * lazy; content ids are produced as the keys are read.
+	 *
 	 * @return a stream of content IDs
 	 */
-	@SuppressWarnings("unchecked")
 	public Stream<IContentId> contentIds() {
-		Yaml yaml = getYamlParser();
-		Map<String, Object> load;
-		try {
-			load = yaml.load(input);
-			Map<String, Object> packages = (Map<String, Object>) load.getOrDefault("packages", new LinkedHashMap<>());
-			return packages.keySet().stream().map(this::getId);
-		} catch (Exception e) {
-			logger.debug("Error reading content of package-lock.yaml file", e);
-			throw new RuntimeException("Error reading content of package-lock.yaml file");
-		}
+		return StreamSupport.stream(new PackageKeyScanner(), false);
 	}
 
 	/**
-	 * Returns a YAML parser with custom options.
-	 *
-	 * @return a YAML parser
+	 * The scanner works through the events of the first document in the file. The
+	 * root of the document must be a mapping; the values of all of the root
+	 * entries other than <code>packages</code> are skipped without building any
+	 * objects. With lockfile v9, the <code>snapshots</code> section has an entry
+	 * for each package/peer dependency combination; every one of those is also
+	 * represented in the <code>packages</code> section, so we skip it too.
 	 */
-	private static Yaml getYamlParser() {
-		Representer representer = new Representer(new DumperOptions());
-		representer.getPropertyUtils().setSkipMissingProperties(true);
-		LoaderOptions loaderOptions = new LoaderOptions();
-		SafeConstructor constructor = new SafeConstructor(loaderOptions);
-		return new Yaml(constructor, representer, new DumperOptions());
+	private class PackageKeyScanner extends Spliterators.AbstractSpliterator<IContentId> {
+		private final Parser parser = new ParserImpl(new StreamReader(input), new LoaderOptions());
+		private boolean started = false;
+		private boolean inPackages = false;
+
+		PackageKeyScanner() {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super IContentId> action) {
+			String key;
+			try {
+				key = nextKey();
+			} catch (YAMLException | IllegalStateException e) {
+				logger.debug("Error reading content of package-lock.yaml file", e);
+				throw new RuntimeException("Error reading content of package-lock.yaml file", e);
+			}
+			if (key == null)
+				return false;
+			// Whatever the consumer throws is not ours to report.
+			action.accept(getId(key));
+			return true;
+		}
+
+		/**
+		 * Answer the next key in the packages section, or <code>null</code> when
+		 * there are no more.
+		 */
+		private String nextKey() {
+			if (!started) {
+				started = true;
+				expect(Event.ID.StreamStart);
+				expect(Event.ID.DocumentStart);
+				expect(Event.ID.MappingStart);
+			}
+
+			while (true) {
+				var event = parser.getEvent();
+				if (event.is(Event.ID.MappingEnd)) {
+					if (!inPackages)
+						return null;
+					inPackages = false;
+					continue;
+				}
+
+				if (!event.is(Event.ID.Scalar)) {
+					// Complex keys are not something that we expect to see.
+					skip(event);
+					skip(parser.getEvent());
+					continue;
+				}
+
+				var key = ((ScalarEvent) event).getValue();
+				if (inPackages) {
+					skip(parser.getEvent());
+					return key;
+				}
+
+				var value = parser.getEvent();
+				if ("packages".equals(key) && value.is(Event.ID.MappingStart)) {
+					inPackages = true;
+				} else {
+					skip(value);
+				}
+			}
+		}
+
+		private void expect(Event.ID id) {
+			var event = parser.getEvent();
+			if (!event.is(id))
+				throw new IllegalStateException("Unexpected event: " + event);
+		}
+
+		/**
+		 * Skip the node that starts with the event.
+		 */
+		private void skip(Event event) {
+			if (!event.is(Event.ID.MappingStart) && !event.is(Event.ID.SequenceStart))
+				return;
+
+			int depth = 1;
+			while (depth > 0) {
+				var next = parser.getEvent();
+				if (next.is(Event.ID.MappingStart) || next.is(Event.ID.SequenceStart))
+					depth++;
+				else if (next.is(Event.ID.MappingEnd) || next.is(Event.ID.SequenceEnd))
+					depth--;
+			}
+		}
 	}
 }
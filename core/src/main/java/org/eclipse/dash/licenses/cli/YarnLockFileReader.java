@@ -10,13 +10,17 @@
 package org.eclipse.dash.licenses.cli;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.Reader;
-import java.util.ArrayList;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.Stack;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.dash.licenses.ContentId;
 import org.eclipse.dash.licenses.IContentId;
@@ -57,6 +61,34 @@ import org.eclipse.dash.licenses.InvalidContentId;
  * "resolved" "https://registry.npmjs.org/ansi-colors/-/ansi-colors-4.1.1.tgz"
  * "version" "4.1.1" </pre
  *
+ * <p>
+ * Yarn Berry (version 2 and later) writes a lock file that actually is YAML. It
+ * starts with a <code>__metadata</code> entry, and the entries specify the
+ * actual package in a <code>resolution</code> value. For example:
+ *
+ * <pre>
+ * __metadata:
+ *   version: 6
+ *   cacheKey: 8
+ *
+ * "@babel/code-frame@npm:^7.0.0, @babel/code-frame@npm:^7.10.4":
+ *   version: 7.12.13
+ *   resolution: "@babel/code-frame@npm:7.12.13"
+ *   dependencies:
+ *     "@babel/highlight": ^7.12.13
+ *   languageName: node
+ *   linkType: hard
+ * </pre>
+ *
+ * Entries that resolve to a workspace (i.e., the project itself) or to a patch
+ * of another entry are skipped.
+ *
+ * <p>
+ * The file is read in a single pass; the content id for each entry is produced
+ * when we reach the end of the entry. We only look at the header of each entry
+ * and at the values nested immediately under it.
+ *
+ * <p>
  * The implementation is only as sophisticated as it needs to be and only
  * provides the behaviour that I require to determine a ClearlyDefined ID from
  * the content.
@@ -65,6 +97,47 @@ import org.eclipse.dash.licenses.InvalidContentId;
  */
 public class YarnLockFileReader implements IDependencyListReader {
 
+	/**
+	 * The header may be specified in a number of different ways. Sometimes, it is
+	 * wrapped in quotes (e.g., when it includes a namespace). In some cases, the
+	 * key includes multiple entries. For our purposes, the key is always the first
+	 * "entry".
+	 * 
+	 * <p>
+	 * For example:
+	 * 
+	 * For <code>"@babel/code-frame@^7.0.0", "@babel/code-frame@^7.10.4":</code>,
+	 * the header is "@babel/code-frame@^7.0.0".
+	 */
+	private static final Pattern HEADER_PATTERN = Pattern.compile("^\"?(?<key>[^\"]+)\"?(?:,.*)?\\s*:$");
+
+	/**
+	 * Bearing in mind that I haven't been able to find any documentation of this
+	 * format, there's a case where the version appears to be a pointer to a
+	 * different library, which I've decided to describe as a "redirect". At
+	 * present, I've only seen one example of this, and it starts with "npm:", so
+	 * we're running with an assumption that this is what they should all look like.
+	 * 
+	 * For example, a value of
+	 * <code>@vue/vue-loader-v15@npm:vue-loader@^15.9.7</code> maps, as far as I can
+	 * tell to <code>vue-loader@^15.9.7</code>.
+	 */
+	private static final Pattern REDIRECT_PATTERN = Pattern.compile("npm:(?<redirect>(@[^\\/@]+\\/)?[^@]+@[^@\\/]+)$");
+
+	/**
+	 * The namespace and name come from the key.
+	 */
+	private static final Pattern NAME_PATTERN = Pattern.compile("^(?:(?<namespace>@[^\\/@]+)\\/)?(?<name>[^@]+)");
+
+	/**
+	 * FIXME Validate that we can assume that the version is surrounded by quotes.
+	 * 
+	 * 2023-11-10 sometimes the key is surrounded by quotes (#281)
+	 */
+	private static final Pattern VERSION_PATTERN = Pattern.compile("(?:version|\"version\") \"(?<version>[^\"]+)\"");
+
+	private static final String METADATA = "__metadata";
+
 	private BufferedReader reader;
 
 	public YarnLockFileReader(Reader input) {
@@ -73,49 +146,78 @@ public class YarnLockFileReader implements IDependencyListReader {
 
 	@Override
 	public List<IContentId> getContentIds() {
-		return read().stream().map(each -> each.getId()).collect(Collectors.toList());
+		return streamContentIds().collect(Collectors.toList());
+	}
+
+	@Override
+	public Stream<IContentId> streamContentIds() {
+		return StreamSupport.stream(new EntryScanner(), false);
 	}
 
 	/**
-	 * Extract a hierarchical structure out of the file that we can query
-	 * associations inherent in that hierarchy. To do this, we use a stack.
+	 * The scanner reads the file one line at a time. A line that is not indented
+	 * starts a new entry (and so ends the previous one); lines that are indented
+	 * by one level provide the values for the current entry; everything else is
+	 * ignored.
 	 */
-	private Record read() {
-		/*
-		 * At any point during the traversal, the top of the stack represents the last
-		 * line that we encountered and the depth of the stack indicates the level of
-		 * nesting for that element.
-		 */
-		var stack = new Stack<Record>();
-		stack.push(new Record());
+	private class EntryScanner extends Spliterators.AbstractSpliterator<IContentId> {
+		private Entry current;
+		private boolean berry = false;
 
-		reader.lines().filter(line -> !line.isEmpty()).filter(line -> !line.startsWith("#")).forEach(line -> {
-			int level = 2 + getNestingFor(line);
+		EntryScanner() {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+		}
 
-			// As long as we have item with a lower level of nesting that the item
-			// on the top of the stack, we pop the stack.
-			while (stack.size() > level) {
-				stack.pop();
-			}
+		@Override
+		public boolean tryAdvance(Consumer<? super IContentId> action) {
+			String line;
+			while ((line = readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
 
-			if (level > stack.size()) {
-				// When the level is greater than the item at the top of the stack, then
-				// the current item is nested under the top item.
-				Record item = new Record(line);
-				stack.peek().add(item);
-				stack.push(item);
-			} else if (level == stack.size()) {
-				// When the level is the same as the item on the top of the stack, a
-				// new item is created and replaces the item on the top of the stack.
-				stack.pop();
-				Record item = new Record(line);
-				stack.peek().add(item);
-				stack.push(item);
+				int nesting = getNestingFor(line);
+				if (nesting == 0) {
+					var id = close();
+					current = new Entry(line.trim());
+					if (METADATA.equals(current.getHeader())) {
+						berry = true;
+						current = null;
+					}
+					if (id != null) {
+						action.accept(id);
+						return true;
+					}
+				} else if (nesting == 1 && current != null) {
+					current.add(line.trim());
+				}
 			}
-		});
 
-		// The first item in the stack is the root item. Return that.
-		return stack.firstElement();
+			var id = close();
+			if (id == null)
+				return false;
+			action.accept(id);
+			return true;
+		}
+
+		/**
+		 * Close the current entry (if there is one) and answer its content id, or
+		 * <code>null</code> if the entry should be skipped.
+		 */
+		private IContentId close() {
+			if (current == null)
+				return null;
+			var id = berry ? current.getBerryId() : current.getId();
+			current = null;
+			return id;
+		}
+
+		private String readLine() {
+			try {
+				return reader.readLine();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
 	}
 
 	/**
@@ -124,133 +226,110 @@ public class YarnLockFileReader implements IDependencyListReader {
 	 */
 	private int getNestingFor(String line) {
 		int count = 0;
-		for (char c : line.toCharArray()) {
-			if (c == ' ') {
-				count++;
-			} else {
-				break;
-			}
+		while (count < line.length() && line.charAt(count) == ' ') {
+			count++;
 		}
 		return count / 2;
 	}
 
 	/**
-	 * Instances of this class represent a node in the hierarchy extracted from the
-	 * file. Instances only track their own nested items (recursively).
+	 * Instances of this class represent a top-level entry in the file, along with
+	 * the values that we care about from the lines nested immediately under it.
 	 */
-	private class Record {
-		String value;
-		List<Record> nested = new ArrayList<>();
+	private static class Entry {
+		final String value;
+		String version;
+		String resolution;
 
-		public Record() {
+		Entry(String value) {
+			this.value = value;
 		}
 
-		public Record(String line) {
-			value = line.trim();
+		void add(String line) {
+			if (line.startsWith("version:")) {
+				// Yarn Berry
+				if (version == null)
+					version = unquote(line.substring("version:".length()));
+			} else if (line.startsWith("resolution:")) {
+				// Yarn Berry
+				if (resolution == null)
+					resolution = unquote(line.substring("resolution:".length()));
+			} else if (version == null) {
+				var matcher = VERSION_PATTERN.matcher(line);
+				if (matcher.matches())
+					version = matcher.group("version");
+			}
+		}
+
+		String getHeader() {
+			var matcher = HEADER_PATTERN.matcher(value);
+			if (matcher.find())
+				return matcher.group("key").trim();
+
+			return null;
 		}
 
-		public void add(Record item) {
-			nested.add(item);
+		/**
+		 * Extract a content ID from the entry. The namespace and name come from the
+		 * header; the resolved version comes from the nested "version" entry.
+		 */
+		IContentId getId() {
+			String header = getHeader();
+			if (header == null || version == null)
+				return new InvalidContentId(value);
+
+			return getId(getRedirect(header), version);
 		}
 
 		/**
-		 * Assume that the receiver represents a top-level entry in the file and extract
-		 * a content ID from it.
-		 * 
-		 * The namespace and name come from the key; the resolved version comes from the
-		 * nested "version" entry.
+		 * Extract a content ID from a Yarn Berry entry. The <code>resolution</code>
+		 * takes the form <code>name@protocol:reference</code>; for content that comes
+		 * from npm, the reference is the version.
 		 */
-		public IContentId getId() {
-			String key = getRedirect(getHeader());
+		IContentId getBerryId() {
+			if (resolution == null)
+				return getId();
 
-			var pattern = Pattern.compile("^(?:(?<namespace>@[^\\/@]+)\\/)?(?<name>[^@]+)");
-			var matcher = pattern.matcher(key);
+			int separator = resolution.indexOf('@', 1);
+			if (separator > 0) {
+				var name = resolution.substring(0, separator);
+				var reference = resolution.substring(separator + 1);
+				if (reference.startsWith("workspace:") || reference.startsWith("patch:"))
+					return null;
+				if (reference.startsWith("npm:"))
+					return getId(name, reference.substring("npm:".length()));
+			}
+			return new InvalidContentId(resolution);
+		}
+
+		private IContentId getId(String key, String version) {
+			var matcher = NAME_PATTERN.matcher(key);
 			if (matcher.find()) {
 				var namespace = matcher.group("namespace");
 				if (namespace == null)
 					namespace = "-";
 				var name = matcher.group("name");
-				var version = getVersion();
 
-				if (version != null) {
-					return ContentId.getContentId("npm", "npmjs", namespace, name, version);
-				}
+				var id = ContentId.getContentId("npm", "npmjs", namespace, name, version);
+				if (id != null)
+					return id;
 			}
 			return new InvalidContentId(value);
 		}
 
-		/**
-		 * Bearing in mind that I haven't been able to find any documentation of this
-		 * format, there's a case where the version appears to be a pointer to a
-		 * different library, which I've decided to describe as a "redirect". At
-		 * present, I've only seen one example of this, and it starts with "npm:", so
-		 * we're running with an assumption that this is what they should all look like.
-		 * 
-		 * For example, a value of
-		 * <code>@vue/vue-loader-v15@npm:vue-loader@^15.9.7</code> maps, as far as I can
-		 * tell to <code>vue-loader@^15.9.7</code>.
-		 * 
-		 * This method does that mapping.
-		 * 
-		 * @param header
-		 * @return
-		 */
 		private String getRedirect(String header) {
-			var redirect = Pattern.compile("npm:(?<redirect>(@[^\\/@]+\\/)?[^@]+@[^@\\/]+)$");
-			var matcher = redirect.matcher(header);
+			var matcher = REDIRECT_PATTERN.matcher(header);
 			if (matcher.find()) {
 				return matcher.group("redirect");
 			}
 			return header;
 		}
 
-		/**
-		 * The header may be specified in a number of different ways. Sometimes, it is
-		 * wrapped in quotes (e.g., when it includes a namespace). In some cases, the
-		 * key includes multiple entries. For our purposes, the key is always the first
-		 * "entry".
-		 * 
-		 * <p>
-		 * For example:
-		 * 
-		 * For <code>"@babel/code-frame@^7.0.0", "@babel/code-frame@^7.10.4":</code>,
-		 * the header is "@babel/code-frame@^7.0.0".
-		 * 
-		 * @return
-		 */
-		private String getHeader() {
-			var pattern = Pattern.compile("^\"?(?<key>[^\"]+)\"?(?:,.*)?\\s*:$");
-			var matcher = pattern.matcher(value.trim());
-			if (matcher.find())
-				return matcher.group("key").trim();
-
-			return null;
-		}
-
-		/**
-		 * The version that actually gets resolved is represented in a child row. Walk
-		 * through the immediate children of the receiver to find the one row that
-		 * starts with "version".
-		 * 
-		 * FIXME Validate that we can assume that the version is surrounded by quotes.
-		 * 
-		 * 2023-11-10 sometimes the key is surrounded by quotes (#281)
-		 * 
-		 * @return
-		 */
-		public String getVersion() {
-			var pattern = Pattern.compile("(?:version|\"version\") \"(?<version>[^\"]+)\"");
-			for (Record child : nested) {
-				var matcher = pattern.matcher(child.value);
-				if (matcher.matches()) {
-					return matcher.group("version");
-				}
-			}
-			return null;
-		}
-
-		public Stream<Record> stream() {
-			return nested.stream();
+		private static String unquote(String value) {
+			value = value.trim();
+			if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\""))
+				return value.substring(1, value.length() - 1);
+			return value;
 		}
 	}
 }
@@ -9,7 +9,11 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.context;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.eclipse.dash.api.EclipseApi;
@@ -18,12 +22,14 @@ import org.eclipse.dash.licenses.IProxySettings;
 import org.eclipse.dash.licenses.ISettings;
 import org.eclipse.dash.licenses.LicenseChecker;
 import org.eclipse.dash.licenses.LicenseSupport;
+import org.eclipse.dash.licenses.cache.LicenseDataCache;
 import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedSupport;
 import org.eclipse.dash.licenses.foundation.EclipseFoundationSupport;
 import org.eclipse.dash.licenses.http.HttpClientService;
 import org.eclipse.dash.licenses.http.IHttpClientService;
 import org.eclipse.dash.licenses.projects.ProjectService;
 import org.eclipse.dash.licenses.review.GitLabSupport;
+import org.eclipse.dash.licenses.snapshot.SnapshotLicenseDataProvider;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.Multibinder;
@@ -49,6 +55,7 @@ public class LicenseToolModule extends AbstractModule {
 		bind(IHttpClientService.class).toInstance(httpClientService);
 		bind(ISettings.class).toInstance(settings);
 		bind(LicenseChecker.class).toInstance(new LicenseChecker());
+		bind(LicenseDataCache.class).toInstance(new LicenseDataCache());
 		bind(ProjectService.class).toInstance(new ProjectService());
 		bind(EclipseApi.class).toInstance(new EclipseApi(new EclipseApi.HttpService() {
 			@Override
@@ -58,15 +65,30 @@ public class LicenseToolModule extends AbstractModule {
 		}));
 
 		var licenseDataProviders = Multibinder.newSetBinder(binder(), ILicenseDataProvider.class);
-		licenseDataProviders.addBinding().toInstance(new EclipseFoundationSupport() {
-			@Override
-			public int getWeight() {
-				return 100;
+		if (settings.getSnapshotPath() != null) {
+			/*
+			 * Answer everything from the snapshots; don't talk to the servers. The
+			 * providers that the snapshots stand in for determine the status of the
+			 * results according to the current settings.
+			 */
+			var eclipse = new EclipseFoundationSupport();
+			var clearlyDefined = new ClearlyDefinedSupport();
+			requestInjection(eclipse);
+			requestInjection(clearlyDefined);
+			Map<String, ILicenseDataProvider> providers = Map.of(eclipse.getName(), eclipse,
+					clearlyDefined.getName(), clearlyDefined);
+			try {
+				SnapshotLicenseDataProvider.getProviders(new File(settings.getSnapshotPath()), providers::get)
+						.forEach(provider -> licenseDataProviders.addBinding().toInstance(provider));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
 			}
-		});
+		} else {
+			licenseDataProviders.addBinding().toInstance(new EclipseFoundationSupport());
 
-		if (!"skip".equals(settings.getClearlyDefinedDefinitionsUrl())) {
-			licenseDataProviders.addBinding().to(ClearlyDefinedSupport.class);
+			if (!"skip".equals(settings.getClearlyDefinedDefinitionsUrl())) {
+				licenseDataProviders.addBinding().to(ClearlyDefinedSupport.class);
+			}
 		}
 
 		bind(LicenseSupport.class).toInstance(new LicenseSupport());
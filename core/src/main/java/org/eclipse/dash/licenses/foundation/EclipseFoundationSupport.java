@@ -9,10 +9,14 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.foundation;
 
-import java.io.StringReader;
+import java.io.InputStreamReader;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -21,6 +25,8 @@ import org.eclipse.dash.licenses.IContentId;
 import org.eclipse.dash.licenses.ILicenseDataProvider;
 import org.eclipse.dash.licenses.ISettings;
 import org.eclipse.dash.licenses.http.IHttpClientService;
+import org.eclipse.dash.licenses.util.AdaptiveBatchSize;
+import org.eclipse.dash.licenses.util.Futures;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +38,14 @@ import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonReader;
 
 public class EclipseFoundationSupport implements ILicenseDataProvider {
+	public static final String ECLIPSE = "eclipse";
+
+	/**
+	 * The Eclipse Foundation's answers take precedence over those of the other
+	 * providers.
+	 */
+	public static final int WEIGHT = 100;
+
 	@Inject
 	ISettings settings;
 	@Inject
@@ -39,31 +53,55 @@ public class EclipseFoundationSupport implements ILicenseDataProvider {
 
 	final Logger logger = LoggerFactory.getLogger(EclipseFoundationSupport.class);
 
+	private AdaptiveBatchSize batchSize;
+
+	@Inject
+	void bootstrap() {
+		batchSize = new AdaptiveBatchSize(settings.getBatchSize());
+	}
+
 	@Override
 	public void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+		Futures.join(queryLicenseDataAsync(ids, consumer, Runnable::run));
+	}
+
+	/**
+	 * The request is sent asynchronously (see
+	 * {@link IHttpClientService#postForStreamAsync(String, String, String, Consumer)}),
+	 * so no thread is tied up while we wait for the Eclipse Foundation to answer.
+	 * The executor is not used.
+	 */
+	@Override
+	public CompletableFuture<Void> queryLicenseDataAsync(Collection<IContentId> ids, Consumer<IContentData> consumer,
+			Executor executor) {
 		if (ids.isEmpty())
-			return;
+			return CompletableFuture.completedFuture(null);
 
 		String url = settings.getLicenseCheckUrl();
 		if (url.isBlank()) {
 			logger.debug("Bypassing Eclipse Foundation.");
-			return;
+			return CompletableFuture.completedFuture(null);
 		}
 
 		logger.info("Querying Eclipse Foundation for license data for {} items.", ids.size());
 
 		String form = encodeRequestPayload(ids);
 
-		int code = httpClientService.post(url, "application/x-www-form-urlencoded", form, response -> {
+		// Map the answers back to the ids that we asked about.
+		Map<String, IContentId> requested = new HashMap<>();
+		ids.forEach(id -> requested.put(id.toString(), id));
+
+		long started = System.currentTimeMillis();
+		return httpClientService.postForStreamAsync(url, "application/x-www-form-urlencoded", form, response -> {
 			AtomicInteger counter = new AtomicInteger();
 
-			JsonReader reader = Json.createReader(new StringReader(response));
+			JsonReader reader = Json.createReader(new InputStreamReader(response, StandardCharsets.UTF_8));
 			JsonObject read = (JsonObject) reader.read();
 
 			JsonObject approved = read.getJsonObject("approved");
 			if (approved != null)
 				approved.forEach((key, each) -> {
-					FoundationData data = new FoundationData(each.asJsonObject());
+					FoundationData data = getFoundationData(requested, each.asJsonObject());
 					logger.debug("EF approved: {} ({}) score: {} {} {}", data.getId(), data.getRule(), data.getScore(),
 							data.getLicense(), data.getAuthority());
 					consumer.accept(data);
@@ -73,7 +111,7 @@ public class EclipseFoundationSupport implements ILicenseDataProvider {
 			JsonObject restricted = read.getJsonObject("restricted");
 			if (restricted != null)
 				restricted.forEach((key, each) -> {
-					FoundationData data = new FoundationData(each.asJsonObject());
+					FoundationData data = getFoundationData(requested, each.asJsonObject());
 					logger.debug("EF restricted: {} score: {} {} {}", data.getId(), data.getScore(), data.getLicense(),
 							data.getAuthority());
 					consumer.accept(data);
@@ -81,11 +119,45 @@ public class EclipseFoundationSupport implements ILicenseDataProvider {
 				});
 
 			logger.info("Found {} items.", counter.get());
+		}).whenComplete((code, exception) -> {
+			if (exception == null) {
+				batchSize.record(ids.size(), System.currentTimeMillis() - started, code);
+			} else {
+				batchSize.recordFailure(ids.size());
+			}
+		}).thenAccept(code -> {
+			if (code != 200) {
+				logger.error("Error response from the Eclipse Foundation HTTP {}", code);
+				throw new RuntimeException("Received an error response from the Eclipse Foundation.");
+			}
 		});
-		if (code != 200) {
-			logger.error("Error response from the Eclipse Foundation HTTP {}", code);
-			throw new RuntimeException("Received an error response from the Eclipse Foundation.");
-		}
+	}
+
+	@Override
+	public String getName() {
+		return ECLIPSE;
+	}
+
+	@Override
+	public int getWeight() {
+		return WEIGHT;
+	}
+
+	/**
+	 * We don't ask about anything when the Eclipse Foundation is bypassed.
+	 */
+	@Override
+	public boolean isSupported(IContentId id) {
+		return !settings.getLicenseCheckUrl().isBlank();
+	}
+
+	@Override
+	public int getBatchSize(int batchSize) {
+		return this.batchSize.get();
+	}
+
+	private FoundationData getFoundationData(Map<String, IContentId> requested, JsonObject data) {
+		return new FoundationData(requested.get(data.getString("id", null)), data);
 	}
 
 	private String encodeRequestPayload(Collection<IContentId> ids) {
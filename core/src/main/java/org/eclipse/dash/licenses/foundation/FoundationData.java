@@ -44,13 +44,29 @@ public class FoundationData implements IContentData {
 	 */
 	private JsonObject data;
 
+	private IContentId id;
+
 	public FoundationData(JsonObject data) {
+		this(null, data);
+	}
+
+	/**
+	 * When the content id that the data is for is already known (e.g., it is the
+	 * id that we asked about), we use it rather than parse the value in the data.
+	 *
+	 * @param id   the content id, or <code>null</code> to parse it from the data
+	 * @param data the data answered by the Eclipse Foundation
+	 */
+	public FoundationData(IContentId id, JsonObject data) {
+		this.id = id;
 		this.data = data;
 	}
 
 	@Override
 	public IContentId getId() {
-		return ContentId.getContentId(data.getString("id"));
+		if (id == null)
+			id = ContentId.getContentId(data.getString("id"));
+		return id;
 	}
 
 	@Override
@@ -0,0 +1,214 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cached resource keeps a local copy of a remote resource (e.g., the list of
+ * approved licenses) and only downloads it again when it has changed. We
+ * remember the <code>ETag</code> and <code>Last-Modified</code> headers from
+ * the response, and send them back with the next request; when the server
+ * answers HTTP 304 (not modified), we use the local copy.
+ * <p>
+ * When the server cannot be reached (or answers with an error), we fall back to
+ * the local copy, regardless of its age.
+ * <p>
+ * The headers are stored alongside the local copy in a properties file with the
+ * same name plus <code>.properties</code>.
+ */
+public class CachedResource {
+	final Logger logger = LoggerFactory.getLogger(CachedResource.class);
+
+	private static final String URL = "url";
+	private static final String ETAG = "etag";
+	private static final String LAST_MODIFIED = "lastModified";
+
+	private final IHttpClientService httpClientService;
+	private final String url;
+	private final Path path;
+	private final Path metadataPath;
+
+	public CachedResource(IHttpClientService httpClientService, String url, File file) {
+		this.httpClientService = httpClientService;
+		this.url = url;
+		this.path = file.toPath().toAbsolutePath();
+		this.metadataPath = path.resolveSibling(path.getFileName() + ".properties");
+	}
+
+	/**
+	 * Hand the content of the resource to the handler. The handler is not invoked
+	 * if we can't get the content from the server and don't have a local copy.
+	 *
+	 * @param contentType The MIME time expected in the response
+	 * @param handler     A consumer for the content
+	 */
+	public void get(String contentType, Consumer<InputStream> handler) {
+		Properties metadata = readMetadata();
+
+		Map<String, String> headers = new HashMap<>();
+		if (metadata != null) {
+			if (metadata.getProperty(ETAG) != null)
+				headers.put("If-None-Match", metadata.getProperty(ETAG));
+			if (metadata.getProperty(LAST_MODIFIED) != null)
+				headers.put("If-Modified-Since", metadata.getProperty(LAST_MODIFIED));
+		}
+
+		List<byte[]> content = new ArrayList<>();
+		int code;
+		try {
+			code = httpClientService.getWithHeaders(url, contentType, headers,
+					(responseHeaders, input) -> content.add(download(responseHeaders, input)));
+		} catch (RuntimeException e) {
+			if (metadata == null)
+				throw e;
+			logger.warn("Could not get {}; using the local copy {}.", url, path);
+			logger.debug(e.getMessage(), e);
+			read(handler);
+			return;
+		}
+
+		if (code == 200 && !content.isEmpty()) {
+			handler.accept(new ByteArrayInputStream(content.get(0)));
+			return;
+		} else if (code == 304) {
+			logger.debug("{} has not been modified; using the local copy {}.", url, path);
+		} else if (metadata != null) {
+			logger.warn("Error response from {} HTTP {}; using the local copy {}.", url, code, path);
+		} else {
+			logger.error("Error response from {} HTTP {}.", url, code);
+			return;
+		}
+
+		read(handler);
+	}
+
+	/**
+	 * Answer the stored headers, or <code>null</code> if we don't have a local
+	 * copy of the resource.
+	 */
+	private Properties readMetadata() {
+		if (!Files.exists(path) || !Files.exists(metadataPath))
+			return null;
+
+		Properties metadata = new Properties();
+		try (Reader reader = Files.newBufferedReader(metadataPath, StandardCharsets.UTF_8)) {
+			metadata.load(reader);
+		} catch (IOException e) {
+			logger.debug(e.getMessage(), e);
+			return null;
+		}
+
+		// The local copy is of no use to us if it came from somewhere else.
+		if (!url.equals(metadata.getProperty(URL)))
+			return null;
+
+		return metadata;
+	}
+
+	/**
+	 * Read the content from the response and keep a local copy.
+	 */
+	private byte[] download(Map<String, String> headers, InputStream input) {
+		byte[] content;
+		try {
+			content = input.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		try {
+			write(headers, content);
+			logger.debug("Downloaded {} to {}.", url, path);
+		} catch (IOException e) {
+			logger.warn("Could not write the local copy {} of {}.", path, url);
+			logger.debug(e.getMessage(), e);
+		}
+		return content;
+	}
+
+	/**
+	 * Write the content to the local copy, and the headers that we need to ask
+	 * whether or not it has changed to the properties file. We write to temporary
+	 * files first and then move them into place so that an interrupted write does
+	 * not leave a corrupted copy behind.
+	 * <p>
+	 * The local copy is only used when we have the properties file (see
+	 * {@link #readMetadata()}), so we remove the properties file first and write
+	 * it last. If we fail part way through, we download the resource again next
+	 * time rather than use a local copy that doesn't match the headers.
+	 */
+	private void write(Map<String, String> headers, byte[] content) throws IOException {
+		Properties metadata = new Properties();
+		metadata.setProperty(URL, url);
+		if (headers.get("ETag") != null)
+			metadata.setProperty(ETAG, headers.get("ETag"));
+		if (headers.get("Last-Modified") != null)
+			metadata.setProperty(LAST_MODIFIED, headers.get("Last-Modified"));
+
+		Files.createDirectories(path.getParent());
+		Files.deleteIfExists(metadataPath);
+
+		Path temp = null;
+		Path tempMetadata = null;
+		try {
+			temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+			Files.write(temp, content);
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+
+			tempMetadata = Files.createTempFile(path.getParent(), metadataPath.getFileName().toString(), ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tempMetadata, StandardCharsets.UTF_8)) {
+				metadata.store(writer, null);
+			}
+			Files.move(tempMetadata, metadataPath, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			// Once they've been moved into place, there's nothing to delete.
+			delete(temp);
+			delete(tempMetadata);
+		}
+	}
+
+	private void delete(Path temp) {
+		if (temp == null)
+			return;
+		try {
+			Files.deleteIfExists(temp);
+		} catch (IOException e) {
+			logger.debug(e.getMessage(), e);
+		}
+	}
+
+	private void read(Consumer<InputStream> handler) {
+		try (InputStream input = Files.newInputStream(path)) {
+			handler.accept(input);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -21,9 +21,17 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import jakarta.inject.Inject;
@@ -46,45 +54,123 @@ public class HttpClientService implements IHttpClientService {
 	@Inject
 	Provider<IProxySettings> proxySettings;
 
+	/**
+	 * HTTP clients are expensive to create (each has its own connection pool and
+	 * selector thread), so we create one for each combination of timeout and proxy
+	 * settings and reuse it for the lifetime of the service. This lets requests to
+	 * the same host share connections (and, with HTTP/2, multiplex over a single
+	 * connection).
+	 */
+	private final Map<List<Object>, HttpClient> httpClients = new ConcurrentHashMap<>();
+
 	@Override
 	public int post(String url, String contentType, String payload, Consumer<String> handler) {
+		return postForStream(url, contentType, payload, input -> {
+			try (input) {
+				handler.accept(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+	}
+
+	@Override
+	public int postForStream(String url, String contentType, String payload, Consumer<InputStream> handler) {
 		try {
 			logger.debug("HTTP POST: {}", url);
 			var tries = 0;
 			while (true) {
 				Duration timeout = Duration.ofSeconds(settings.getTimeout());
-				HttpRequest request = HttpRequest
-						.newBuilder(URI.create(url))
-						.header("Content-Type", contentType)
-						.POST(BodyPublishers.ofString(payload, StandardCharsets.UTF_8))
-						.timeout(timeout)
-						.build();
+				HttpRequest request = createPostRequest(url, contentType, payload, timeout);
 
 				HttpClient httpClient = getHttpClient(timeout);
-				HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+				HttpResponse<InputStream> response = httpClient.send(request, BodyHandlers.ofInputStream());
 				if (response.statusCode() == 502 && tries++ < MAX_TRIES) {
 					logger.info("HTTP response 502 (Bad Gateway). Trying again...");
+					response.body().close();
 					Thread.sleep(1000 * tries);
 					continue;
 				}
 				
-				logger.debug("HTTP Status: {}", response.statusCode());
-
-				if (logger.isDebugEnabled()) {
-					response.headers().map().forEach((key,value) -> logger.debug("HTTP Response: {} -> {}", key, value));
-				}
-				
-				if (response.statusCode() == 200) {
-					handler.accept(response.body());
-				}
-				
-				return response.statusCode();
+				return handlePostResponse(response, handler);
 			}
 		} catch (IOException | InterruptedException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The request is sent with {@link HttpClient#sendAsync}; no thread waits for
+	 * the response. The handler runs on one of the HTTP client's threads. When the
+	 * server answers HTTP 502 (bad gateway), we try again after a delay (without
+	 * holding on to a thread while we wait).
+	 */
+	@Override
+	public CompletableFuture<Integer> postForStreamAsync(String url, String contentType, String payload,
+			Consumer<InputStream> handler) {
+		logger.debug("HTTP POST (async): {}", url);
+		return postForStreamAsync(url, contentType, payload, handler, 0);
+	}
+
+	private CompletableFuture<Integer> postForStreamAsync(String url, String contentType, String payload,
+			Consumer<InputStream> handler, int tries) {
+		Duration timeout = Duration.ofSeconds(settings.getTimeout());
+		HttpRequest request = createPostRequest(url, contentType, payload, timeout);
+
+		HttpClient httpClient = getHttpClient(timeout);
+		return httpClient.sendAsync(request, BodyHandlers.ofInputStream()).thenCompose(response -> {
+			if (response.statusCode() == 502 && tries < MAX_TRIES) {
+				logger.info("HTTP response 502 (Bad Gateway). Trying again...");
+				close(response.body());
+				Executor delayed = CompletableFuture.delayedExecutor(1000L * (tries + 1), TimeUnit.MILLISECONDS);
+				return CompletableFuture.supplyAsync(() -> tries + 1, delayed)
+						.thenCompose(next -> postForStreamAsync(url, contentType, payload, handler, next));
+			}
+
+			try {
+				return CompletableFuture.completedFuture(handlePostResponse(response, handler));
+			} catch (IOException e) {
+				return CompletableFuture.failedFuture(new RuntimeException(e));
+			}
+		});
+	}
+
+	private HttpRequest createPostRequest(String url, String contentType, String payload, Duration timeout) {
+		return HttpRequest
+				.newBuilder(URI.create(url))
+				.header("Content-Type", contentType)
+				.POST(BodyPublishers.ofString(payload, StandardCharsets.UTF_8))
+				.timeout(timeout)
+				.build();
+	}
+
+	private int handlePostResponse(HttpResponse<InputStream> response, Consumer<InputStream> handler)
+			throws IOException {
+		logger.debug("HTTP Status: {}", response.statusCode());
+
+		if (logger.isDebugEnabled()) {
+			response.headers().map().forEach((key,value) -> logger.debug("HTTP Response: {} -> {}", key, value));
+		}
+		
+		try (InputStream body = response.body()) {
+			if (response.statusCode() == 200) {
+				handler.accept(body);
+			}
+		}
+		
+		return response.statusCode();
+	}
+
+	private void close(InputStream input) {
+		try {
+			input.close();
+		} catch (IOException e) {
+			logger.debug(e.getMessage(), e);
+		}
+	}
+
 	@Override
 	public boolean remoteFileExists(String url) {
 		try {
@@ -110,6 +196,12 @@ public class HttpClientService implements IHttpClientService {
 
 	@Override
 	public int get(String url, String contentType, Map<String, String> headers, Consumer<InputStream> handler) {
+		return getWithHeaders(url, contentType, headers, (responseHeaders, input) -> handler.accept(input));
+	}
+
+	@Override
+	public int getWithHeaders(String url, String contentType, Map<String, String> headers,
+			BiConsumer<Map<String, String>, InputStream> handler) {
 		try {
 			var tries = 0;
 			while (true) {
@@ -126,15 +218,24 @@ public class HttpClientService implements IHttpClientService {
 				HttpClient httpClient = getHttpClient(timeout);
 
 				HttpResponse<InputStream> response = httpClient.send(request, BodyHandlers.ofInputStream());
-				if (response.statusCode() == 502 && tries++ < MAX_TRIES) {
-					logger.info("HTTP response 502 (Bad Gateway). Trying again...");
-					Thread.sleep(1000 * tries);
-					continue;
-				}
-				if (response.statusCode() == 200) {
-					handler.accept(response.body());
+				// Close the body whatever the response is, so that the connection goes
+				// back to the pool (e.g., HTTP 304 when we revalidate a resource).
+				try (InputStream body = response.body()) {
+					if (response.statusCode() == 502 && tries++ < MAX_TRIES) {
+						logger.info("HTTP response 502 (Bad Gateway). Trying again...");
+					} else {
+						if (response.statusCode() == 200) {
+							Map<String, String> responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+							response.headers().map().forEach((key, values) -> {
+								if (!values.isEmpty())
+									responseHeaders.put(key, values.get(0));
+							});
+							handler.accept(responseHeaders, body);
+						}
+						return response.statusCode();
+					}
 				}
-				return response.statusCode();
+				Thread.sleep(1000 * tries);
 			}
 		} catch (IOException | InterruptedException e) {
 			throw new RuntimeException(e);
@@ -142,13 +243,19 @@ public class HttpClientService implements IHttpClientService {
 	}
 
 	protected HttpClient getHttpClient(Duration timeout) {
+		IProxySettings proxy = this.proxySettings.get();
+		return httpClients.computeIfAbsent(Arrays.asList(timeout, proxy), key -> createHttpClient(timeout, proxy));
+	}
+
+	protected HttpClient createHttpClient(Duration timeout, IProxySettings proxy) {
 		HttpClient.Builder builder = HttpClient
 				.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
 				.connectTimeout(timeout)
 				.followRedirects(HttpClient.Redirect.ALWAYS);
 
 		// Configure proxy, if any
-		Optional.ofNullable(this.proxySettings.get()).ifPresent(proxySettings -> proxySettings.configure(builder));
+		Optional.ofNullable(proxy).ifPresent(proxySettings -> proxySettings.configure(builder));
 
 		return builder.build();
 	}
@@ -9,8 +9,12 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.http;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -33,6 +37,53 @@ public interface IHttpClientService {
 		return 500;
 	};
 
+	/**
+	 * Make an HTTP POST Request and hand the response content to the handler as a
+	 * stream. The handler is only invoked when the response is 200. Use this
+	 * variant when the response may be large and can be processed without holding
+	 * all of it in memory.
+	 * <p>
+	 * The default implementation reads the entire response via
+	 * {@link #post(String, String, String, Consumer)}.
+	 *
+	 * @param url         The target URL.
+	 * @param contentType The MIME time expected in the response
+	 * @param payload     The HTTP Request content (i.e., what gets sent to the
+	 *                    server)
+	 * @param handler     A consumer for the response content (UTF-8).
+	 * @return the HTTP response code
+	 */
+	default int postForStream(String url, String contentType, String payload, Consumer<InputStream> handler) {
+		return post(url, contentType, payload,
+				response -> handler.accept(new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	/**
+	 * Make an HTTP POST Request without waiting for the response. The handler is
+	 * only invoked when the response is 200; it is invoked by whatever thread
+	 * receives the response. When the request fails (or the handler throws an
+	 * exception), the future completes exceptionally.
+	 * <p>
+	 * The default implementation makes the request via
+	 * {@link #postForStream(String, String, String, Consumer)} and so blocks the
+	 * caller until the response has been handled.
+	 *
+	 * @param url         The target URL.
+	 * @param contentType The MIME time expected in the response
+	 * @param payload     The HTTP Request content (i.e., what gets sent to the
+	 *                    server)
+	 * @param handler     A consumer for the response content (UTF-8).
+	 * @return a future that completes with the HTTP response code
+	 */
+	default CompletableFuture<Integer> postForStreamAsync(String url, String contentType, String payload,
+			Consumer<InputStream> handler) {
+		try {
+			return CompletableFuture.completedFuture(postForStream(url, contentType, payload, handler));
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	default boolean remoteFileExists(String url) {
 		return false;
 	}
@@ -45,6 +96,26 @@ public interface IHttpClientService {
 		return 500;
 	}
 
+	/**
+	 * Make an HTTP GET request and hand the response headers along with the
+	 * response content to the handler. The handler is only invoked when the
+	 * response is 200. Header names are not case sensitive; only the first value of
+	 * each header is included.
+	 * <p>
+	 * The default implementation does not provide any response headers.
+	 *
+	 * @param url         The target URL.
+	 * @param contentType The MIME time expected in the response
+	 * @param headers     Additional headers to send with the request (e.g.,
+	 *                    <code>If-None-Match</code>)
+	 * @param handler     A consumer for the response headers and content.
+	 * @return the HTTP response code
+	 */
+	default int getWithHeaders(String url, String contentType, Map<String, String> headers,
+			BiConsumer<Map<String, String>, InputStream> handler) {
+		return get(url, contentType, headers, input -> handler.accept(Map.of(), input));
+	}
+
 	default String exists(String url) {
 		if (url == null) return null;
 		if (remoteFileExists(url)) {
@@ -65,12 +65,11 @@ public class GitLabReview {
 			authority = String.format("[%s](%s)", authority, data.getUrl());
 		output.append(String.format("%s\n", authority));
 		output.append(String.format("  - Declared: %s (%d)\n", data.getLicense(), data.getScore()));
-		switch (data.getAuthority()) {
-		case ClearlyDefinedContentData.CLEARLYDEFINED:
+		if (data instanceof ClearlyDefinedContentData) {
 			((ClearlyDefinedContentData) data)
 					.discoveredLicenses()
 					.forEach(license -> output.append("  - Discovered: " + license).append('\n'));
-		};
+		}
 		output.append("\n");
 	}
 
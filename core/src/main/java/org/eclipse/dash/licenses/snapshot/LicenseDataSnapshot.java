@@ -0,0 +1,193 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.ILicenseDataProvider;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.cache.CachedContentData;
+import org.eclipse.dash.licenses.util.JsonUtils;
+
+/**
+ * A license data snapshot is a read-only, indexed store of the license data
+ * answered by one license data provider (e.g., "eclipse" or "clearlydefined").
+ * Snapshots are built by {@link LicenseDataSnapshotWriter}.
+ * <p>
+ * The file is memory-mapped; lookups are a binary search over an index of
+ * record offsets, sorted by the (UTF-8 encoded) content id, so looking up
+ * content doesn't require reading (or even decoding) anything but the handful
+ * of records that the search visits.
+ * <p>
+ * The file has this structure (all numbers are big-endian):
+ *
+ * <pre>
+ * magic    int      "DSNP"
+ * version  int      2
+ * count    int      number of records
+ * index    int[]    offset of each record, in content id order
+ * records  ...      one after the other:
+ *            id         string
+ *            status     byte (1 = approved, 0 = restricted)
+ *            score      int
+ *            license    string
+ *            authority  string
+ *            url        string
+ *            sourceUrl  string
+ *            data       string
+ * </pre>
+ *
+ * Each string is a short length followed by that many bytes of UTF-8; a length
+ * of -1 represents <code>null</code>. The data is the JSON form of the values
+ * that the provider retains of its own (see {@link IContentData#getCacheData()}),
+ * from which the provider determines the status again according to the
+ * settings of the current run. Version 1 snapshots don't have the data.
+ */
+public class LicenseDataSnapshot {
+	static final int MAGIC = 0x44534e50;
+	static final int VERSION = 2;
+	static final int HEADER = 12;
+
+	private final ByteBuffer buffer;
+	private final int version;
+	private final int count;
+
+	LicenseDataSnapshot(ByteBuffer buffer) {
+		this.buffer = buffer;
+		if (buffer.limit() < HEADER || buffer.getInt(0) != MAGIC)
+			throw new IllegalArgumentException("Not a license data snapshot.");
+		this.version = buffer.getInt(4);
+		if (version < 1 || version > VERSION)
+			throw new IllegalArgumentException("Unsupported license data snapshot version: " + version);
+		this.count = buffer.getInt(8);
+	}
+
+	/**
+	 * Open (memory-map) the snapshot in the file.
+	 *
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the file is not a snapshot
+	 */
+	public static LicenseDataSnapshot open(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			return new LicenseDataSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Answer the license data for the content, or <code>null</code> if the
+	 * snapshot doesn't have any.
+	 */
+	public IContentData get(IContentId id) {
+		return get(id, null);
+	}
+
+	/**
+	 * Answer the license data for the content, or <code>null</code> if the
+	 * snapshot doesn't have any. When the record has data, the provider restores
+	 * the content data from it (see
+	 * {@link ILicenseDataProvider#restoreContentData(IContentId, jakarta.json.JsonObject)}).
+	 *
+	 * @param id       the content id
+	 * @param provider the provider that answered the results in the snapshot, or
+	 *                 <code>null</code> to use the recorded values as they are
+	 */
+	public IContentData get(IContentId id, ILicenseDataProvider provider) {
+		int offset = find(id.toString().getBytes(StandardCharsets.UTF_8));
+		if (offset < 0)
+			return null;
+
+		// Skip the id.
+		int position = offset + 2 + buffer.getShort(offset);
+		var status = buffer.get(position) == 1 ? Status.Approved : Status.Restricted;
+		position += 1;
+		var score = buffer.getInt(position);
+		position += 4;
+		var license = getString(position);
+		position = skipString(position);
+		var authority = getString(position);
+		position = skipString(position);
+		var url = getString(position);
+		position = skipString(position);
+		var sourceUrl = getString(position);
+
+		if (provider != null && version > 1) {
+			var data = getString(skipString(position));
+			if (data != null) {
+				var restored = provider.restoreContentData(id, JsonUtils.readJson(new StringReader(data)));
+				if (restored != null)
+					return restored;
+			}
+		}
+
+		return new CachedContentData(id, license, score, status, authority, url, sourceUrl);
+	}
+
+	/**
+	 * Answer the offset of the record with the key, or -1 if there isn't one.
+	 */
+	private int find(byte[] key) {
+		int low = 0;
+		int high = count - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int offset = buffer.getInt(HEADER + middle * 4);
+			int comparison = compare(offset, key);
+			if (comparison < 0)
+				low = middle + 1;
+			else if (comparison > 0)
+				high = middle - 1;
+			else
+				return offset;
+		}
+		return -1;
+	}
+
+	/**
+	 * Compare the id of the record at the offset with the key, byte by byte,
+	 * without decoding the id.
+	 */
+	private int compare(int offset, byte[] key) {
+		int length = buffer.getShort(offset);
+		int start = offset + 2;
+		int common = Math.min(length, key.length);
+		for (int index = 0; index < common; index++) {
+			int comparison = Byte.compareUnsigned(buffer.get(start + index), key[index]);
+			if (comparison != 0)
+				return comparison;
+		}
+		return Integer.compare(length, key.length);
+	}
+
+	private String getString(int position) {
+		int length = buffer.getShort(position);
+		if (length < 0)
+			return null;
+		byte[] bytes = new byte[length];
+		buffer.duplicate().position(position + 2).get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private int skipString(int position) {
+		return position + 2 + Math.max(0, buffer.getShort(position));
+	}
+}
@@ -0,0 +1,191 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.util.JsonUtils;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * The snapshot writer builds a {@link LicenseDataSnapshot} from license data.
+ * <p>
+ * Snapshots are built from an export of license data in the same form as the
+ * license data cache (i.e., a JSON object that maps the name of each provider
+ * to the results that it answered, keyed by content id); one snapshot is
+ * written for each provider, named after the provider (e.g.,
+ * <code>clearlydefined.snapshot</code>). Entries that record that the provider
+ * had no information about the content are skipped. The values that the
+ * provider retains of its own (the <code>data</code> field) are kept, so that
+ * the status of each result can be determined again when it is used.
+ *
+ * <pre>
+ * java -cp org.eclipse.dash.licenses.jar org.eclipse.dash.licenses.snapshot.LicenseDataSnapshotWriter export.json snapshots
+ * </pre>
+ */
+public class LicenseDataSnapshotWriter {
+	public static final String EXTENSION = ".snapshot";
+
+	private final Map<String, byte[]> records = new HashMap<>();
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.out.println("Usage: LicenseDataSnapshotWriter <export.json> <directory>");
+			System.exit(1);
+		}
+
+		try (Reader reader = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8)) {
+			var written = write(JsonUtils.readJson(reader), new File(args[1]));
+			written.forEach((name, count) -> System.out.println(String.format("%s: %d", name, count)));
+		}
+	}
+
+	/**
+	 * Write one snapshot for each provider in the export into the directory.
+	 *
+	 * @return the number of records written for each provider
+	 */
+	public static Map<String, Integer> write(JsonObject export, File directory) throws IOException {
+		Map<String, Integer> written = new HashMap<>();
+		for (var provider : export.entrySet()) {
+			var writer = new LicenseDataSnapshotWriter();
+			provider.getValue().asJsonObject().forEach((id, value) -> {
+				var entry = value.asJsonObject();
+				if (!entry.containsKey("status"))
+					return;
+				writer.add(id, getString(entry, "license"), entry.getInt("score", 0),
+						"approved".equals(getString(entry, "status")) ? Status.Approved : Status.Restricted,
+						getString(entry, "authority"), getString(entry, "url"), getString(entry, "sourceUrl"),
+						getObject(entry, "data"));
+			});
+			writer.write(new File(directory, provider.getKey() + EXTENSION));
+			written.put(provider.getKey(), writer.size());
+		}
+		return written;
+	}
+
+	private static String getString(JsonObject value, String key) {
+		var string = value.get(key);
+		if (string == null || string.getValueType() != JsonValue.ValueType.STRING)
+			return null;
+		return value.getString(key);
+	}
+
+	private static JsonObject getObject(JsonObject value, String key) {
+		var object = value.get(key);
+		if (object == null || object.getValueType() != JsonValue.ValueType.OBJECT)
+			return null;
+		return object.asJsonObject();
+	}
+
+	public int size() {
+		return records.size();
+	}
+
+	public void add(IContentData data) {
+		add(data.getId().toString(), data.getLicense(), data.getScore(), data.getStatus(), data.getAuthority(),
+				data.getUrl(), data.getSourceUrl(), data.getCacheData());
+	}
+
+	public void add(String id, String license, int score, Status status, String authority, String url,
+			String sourceUrl) {
+		add(id, license, score, status, authority, url, sourceUrl, null);
+	}
+
+	/**
+	 * Add a record. A record that is added with the same id as an existing record
+	 * replaces it.
+	 *
+	 * @param data the values that the provider retains of its own (see
+	 *             {@link IContentData#getCacheData()}), or <code>null</code>
+	 */
+	public void add(String id, String license, int score, Status status, String authority, String url,
+			String sourceUrl, JsonObject data) {
+		var bytes = new ByteArrayOutputStream();
+		try (var output = new DataOutputStream(bytes)) {
+			writeString(output, id);
+			output.writeByte(status == Status.Approved ? 1 : 0);
+			output.writeInt(score);
+			writeString(output, license);
+			writeString(output, authority);
+			writeString(output, url);
+			writeString(output, sourceUrl);
+			writeString(output, data == null ? null : data.toString());
+		} catch (IOException e) {
+			// Can't happen with a ByteArrayOutputStream
+			throw new RuntimeException(e);
+		}
+		records.put(id, bytes.toByteArray());
+	}
+
+	private void writeString(DataOutputStream output, String value) throws IOException {
+		if (value == null) {
+			output.writeShort(-1);
+			return;
+		}
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > Short.MAX_VALUE)
+			throw new IllegalArgumentException("Value is too long to be written to a snapshot: " + value);
+		output.writeShort(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Write the snapshot to the file. We write to a temporary file first and then
+	 * move it into place so that a snapshot that is in use is never overwritten
+	 * with partial content.
+	 */
+	public void write(File file) throws IOException {
+		// The records are sorted in the same (unsigned byte) order that the
+		// snapshot uses to search for them.
+		byte[][] keys = records.keySet().stream().map(key -> key.getBytes(StandardCharsets.UTF_8))
+				.sorted(Arrays::compareUnsigned).toArray(byte[][]::new);
+
+		Path path = file.toPath().toAbsolutePath();
+		Files.createDirectories(path.getParent());
+		Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+		try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(temp));
+				DataOutputStream output = new DataOutputStream(stream)) {
+			output.writeInt(LicenseDataSnapshot.MAGIC);
+			output.writeInt(LicenseDataSnapshot.VERSION);
+			output.writeInt(keys.length);
+
+			int offset = LicenseDataSnapshot.HEADER + keys.length * 4;
+			for (byte[] key : keys) {
+				output.writeInt(offset);
+				offset += records.get(new String(key, StandardCharsets.UTF_8)).length;
+			}
+			for (byte[] key : keys) {
+				output.write(records.get(new String(key, StandardCharsets.UTF_8)));
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+	}
+}
@@ -0,0 +1,132 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.ILicenseDataProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A license data provider that answers results from a
+ * {@link LicenseDataSnapshot} rather than asking a server. The provider takes
+ * the name and weight (and so the place in the cascade) of the provider whose
+ * results the snapshot holds; that provider also determines the status of each
+ * result according to the current settings (see
+ * {@link LicenseDataSnapshot#get(IContentId, ILicenseDataProvider)}).
+ */
+public class SnapshotLicenseDataProvider implements ILicenseDataProvider {
+	final Logger logger = LoggerFactory.getLogger(SnapshotLicenseDataProvider.class);
+
+	private final String name;
+	private final int weight;
+	private final ILicenseDataProvider provider;
+	private final LicenseDataSnapshot snapshot;
+
+	public SnapshotLicenseDataProvider(String name, int weight, LicenseDataSnapshot snapshot) {
+		this.name = name;
+		this.weight = weight;
+		this.provider = null;
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * @param provider the provider whose results the snapshot holds
+	 * @param snapshot the snapshot
+	 */
+	public SnapshotLicenseDataProvider(ILicenseDataProvider provider, LicenseDataSnapshot snapshot) {
+		this.name = provider.getName();
+		this.weight = provider.getWeight();
+		this.provider = provider;
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Answer a provider for each of the snapshots at the path, which may be either
+	 * a single snapshot file or a directory of them. Each snapshot is named for
+	 * the provider whose results it holds (e.g., <code>eclipse.snapshot</code>).
+	 *
+	 * @param path      a snapshot file or a directory of snapshots
+	 * @param providers answers the provider with a name, or <code>null</code> if
+	 *                  there isn't one; the results of snapshots that are named
+	 *                  for an unknown provider are used as they are
+	 * @throws IOException if a snapshot cannot be read
+	 */
+	public static List<SnapshotLicenseDataProvider> getProviders(File path,
+			Function<String, ILicenseDataProvider> providers) throws IOException {
+		File[] files;
+		if (path.isDirectory()) {
+			files = path.listFiles((directory, name) -> name.endsWith(LicenseDataSnapshotWriter.EXTENSION));
+			if (files == null)
+				throw new IOException("Cannot read the snapshot directory " + path);
+			Arrays.sort(files);
+		} else {
+			files = new File[] { path };
+		}
+
+		List<SnapshotLicenseDataProvider> snapshots = new ArrayList<>();
+		for (File file : files) {
+			var name = file.getName();
+			if (name.endsWith(LicenseDataSnapshotWriter.EXTENSION))
+				name = name.substring(0, name.length() - LicenseDataSnapshotWriter.EXTENSION.length());
+			var snapshot = LicenseDataSnapshot.open(file);
+			var provider = providers.apply(name);
+			if (provider == null) {
+				snapshots.add(new SnapshotLicenseDataProvider(name, ILicenseDataProvider.DEFAULT_WEIGHT, snapshot));
+			} else {
+				snapshots.add(new SnapshotLicenseDataProvider(provider, snapshot));
+			}
+		}
+		return snapshots;
+	}
+
+	@Override
+	public void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+		int found = 0;
+		for (IContentId id : ids) {
+			var data = snapshot.get(id, provider);
+			if (data != null) {
+				consumer.accept(data);
+				found++;
+			}
+		}
+		logger.debug("Found {} of {} items in the {} snapshot.", found, ids.size(), name);
+	}
+
+	@Override
+	public int getWeight() {
+		return weight;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * The snapshot is already on disk, and it shares its name with the provider
+	 * whose results it holds; caching its results would pass them off as that
+	 * provider's in subsequent runs.
+	 */
+	@Override
+	public boolean isCacheable() {
+		return false;
+	}
+}
@@ -0,0 +1,64 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.spdx;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An immutable set of approved SPDX license identifiers. The set is built once,
+ * so that checking whether or not an identifier is approved doesn't scan the
+ * entire collection or allocate anything. Identifiers are almost always written
+ * the way that the approved list writes them, so we try an exact (hash) match
+ * first and only then fall back to a case insensitive match.
+ */
+public final class SpdxApprovedLicenses {
+
+	public static final SpdxApprovedLicenses EMPTY = new SpdxApprovedLicenses(Collections.emptySet());
+
+	private final Set<String> codes;
+	private final Set<String> ignoringCase;
+
+	private SpdxApprovedLicenses(Collection<String> codes) {
+		this.codes = new HashSet<>(codes);
+		this.ignoringCase = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		this.ignoringCase.addAll(codes);
+	}
+
+	/**
+	 * Answer a set containing the identifiers.
+	 *
+	 * @param codes SPDX license identifiers (in any case)
+	 */
+	public static SpdxApprovedLicenses of(Collection<String> codes) {
+		return new SpdxApprovedLicenses(codes);
+	}
+
+	/**
+	 * Answer whether or not the identifier is in the receiver. Matches are case
+	 * insensitive.
+	 *
+	 * @param code an SPDX license identifier
+	 */
+	public boolean contains(String code) {
+		return codes.contains(code) || ignoringCase.contains(code);
+	}
+
+	/**
+	 * Answer the number of identifiers in the receiver; identifiers that differ
+	 * only by case are counted once.
+	 */
+	public int size() {
+		return ignoringCase.size();
+	}
+}
@@ -9,7 +9,6 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.spdx;
 
-import java.util.Collection;
 import java.util.function.Function;
 
 public class SpdxBinaryOperation extends SpdxExpression {
@@ -18,7 +17,7 @@ public class SpdxBinaryOperation extends SpdxExpression {
 
 		int getPrecedence();
 
-		boolean matchesApproved(SpdxBinaryOperation spdxBinaryOperation, Collection<String> approved);
+		boolean matchesApproved(SpdxBinaryOperation spdxBinaryOperation, SpdxApprovedLicenses approved);
 
 		boolean checkEqual(SpdxBinaryOperation left, SpdxBinaryOperation right);
 
@@ -32,7 +31,7 @@ public class SpdxBinaryOperation extends SpdxExpression {
 		}
 
 		@Override
-		public boolean matchesApproved(SpdxBinaryOperation operation, Collection<String> approved) {
+		public boolean matchesApproved(SpdxBinaryOperation operation, SpdxApprovedLicenses approved) {
 			return operation.left.matchesApproved(approved) && operation.right.matchesApproved(approved);
 		}
 
@@ -64,7 +63,7 @@ public class SpdxBinaryOperation extends SpdxExpression {
 		}
 
 		@Override
-		public boolean matchesApproved(SpdxBinaryOperation operation, Collection<String> approved) {
+		public boolean matchesApproved(SpdxBinaryOperation operation, SpdxApprovedLicenses approved) {
 			return operation.left.matchesApproved(approved) || operation.right.matchesApproved(approved);
 		}
 
@@ -96,7 +95,7 @@ public class SpdxBinaryOperation extends SpdxExpression {
 		}
 
 		@Override
-		public boolean matchesApproved(SpdxBinaryOperation operation, Collection<String> approved) {
+		public boolean matchesApproved(SpdxBinaryOperation operation, SpdxApprovedLicenses approved) {
 			// TODO Implement this.
 			return false;
 		}
@@ -200,7 +199,7 @@ public class SpdxBinaryOperation extends SpdxExpression {
 	}
 
 	@Override
-	public boolean matchesApproved(Collection<String> approved) {
+	public boolean matchesApproved(SpdxApprovedLicenses approved) {
 		return operator.matchesApproved(this, approved);
 	}
 
@@ -14,7 +14,26 @@ import java.util.function.Function;
 
 public abstract class SpdxExpression {
 
-	public abstract boolean matchesApproved(Collection<String> approved);
+	/**
+	 * Answer whether or not the receiver is satisfied by the approved licenses.
+	 *
+	 * @param approved the approved license identifiers
+	 * @return <code>true</code> when the expression is approved.
+	 */
+	public abstract boolean matchesApproved(SpdxApprovedLicenses approved);
+
+	/**
+	 * Convenience method that answers whether or not the receiver is satisfied by
+	 * a collection of approved license identifiers (in any case). Callers that
+	 * evaluate many expressions against the same licenses should create an
+	 * {@link SpdxApprovedLicenses} once and use that instead.
+	 *
+	 * @param approved the approved license identifiers
+	 * @return <code>true</code> when the expression is approved.
+	 */
+	public boolean matchesApproved(Collection<String> approved) {
+		return matchesApproved(SpdxApprovedLicenses.of(approved));
+	}
 
 	public boolean isBinary() {
 		return false;
@@ -9,7 +9,6 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.spdx;
 
-import java.util.Collection;
 import java.util.function.Function;
 
 public class SpdxGroup extends SpdxExpression {
@@ -49,7 +48,7 @@ public class SpdxGroup extends SpdxExpression {
 	}
 
 	@Override
-	public boolean matchesApproved(Collection<String> approved) {
+	public boolean matchesApproved(SpdxApprovedLicenses approved) {
 		return expression.matchesApproved(approved);
 	}
 
@@ -9,7 +9,6 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.spdx;
 
-import java.util.Collection;
 import java.util.function.Function;
 
 public class SpdxIdentifier extends SpdxExpression {
@@ -37,8 +36,8 @@ public class SpdxIdentifier extends SpdxExpression {
 	}
 
 	@Override
-	public boolean matchesApproved(Collection<String> approved) {
-		return approved.stream().filter(value -> value.compareToIgnoreCase(code) == 0).findAny().isPresent();
+	public boolean matchesApproved(SpdxApprovedLicenses approved) {
+		return approved.contains(code);
 	}
 
 	@Override
@@ -9,12 +9,10 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.spdx;
 
-import java.util.Collection;
-
 public class SpdxInvalidExpression extends SpdxExpression {
 
 	@Override
-	public boolean matchesApproved(Collection<String> approved) {
+	public boolean matchesApproved(SpdxApprovedLicenses approved) {
 		return false;
 	}
 
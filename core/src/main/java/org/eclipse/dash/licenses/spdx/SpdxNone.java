@@ -9,8 +9,6 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.spdx;
 
-import java.util.Collection;
-
 public class SpdxNone extends SpdxExpression {
 
 	public static SpdxNone INSTANCE = new SpdxNone();
@@ -19,7 +17,7 @@ public class SpdxNone extends SpdxExpression {
 	}
 
 	@Override
-	public boolean matchesApproved(Collection<String> approved) {
+	public boolean matchesApproved(SpdxApprovedLicenses approved) {
 		return false;
 	}
 
@@ -9,7 +9,6 @@
  *************************************************************************/
 package org.eclipse.dash.licenses.spdx;
 
-import java.util.Collection;
 import java.util.function.Function;
 
 public class SpdxPlus extends SpdxExpression {
@@ -24,7 +23,7 @@ public class SpdxPlus extends SpdxExpression {
 	}
 
 	@Override
-	public boolean matchesApproved(Collection<String> approved) {
+	public boolean matchesApproved(SpdxApprovedLicenses approved) {
 		// TODO Implement this
 		// We need some means of identifying one license as being a later version of
 		// another.
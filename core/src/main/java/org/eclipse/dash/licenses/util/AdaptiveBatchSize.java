@@ -0,0 +1,100 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.util;
+
+/**
+ * Instances of {@link AdaptiveBatchSize} keep track of how many ids a license
+ * data provider should send to its server in a single request, based on how
+ * the server has responded to the requests that have been sent so far.
+ *
+ * <p>
+ * The size starts at the batch size specified by the settings. A server error
+ * (HTTP 5xx, which includes the 524 timeouts that we get from ClearlyDefined
+ * when a request takes too long), or a request that fails outright (e.g., the
+ * connection fails or the response can't be read), halves the size. A successful response that
+ * takes longer than the target time shrinks the size in proportion; a full
+ * batch that comes back in less than half of the target time grows the size
+ * by a quarter. The size never grows beyond four times the initial size, and
+ * never shrinks below a sixteenth of it.
+ *
+ * <p>
+ * Instances are safe to use from multiple threads.
+ */
+public class AdaptiveBatchSize {
+	public static final long DEFAULT_TARGET_MILLIS = 20_000;
+
+	private final int minimum;
+	private final int maximum;
+	private final long target;
+	private int size;
+
+	public AdaptiveBatchSize(int initial) {
+		this(initial, DEFAULT_TARGET_MILLIS);
+	}
+
+	/**
+	 * @param initial the initial batch size
+	 * @param target  the response time (in milliseconds) that we are aiming for
+	 */
+	public AdaptiveBatchSize(int initial, long target) {
+		this.size = Math.max(1, initial);
+		this.minimum = Math.max(1, size / 16);
+		this.maximum = size * 4;
+		this.target = target;
+	}
+
+	/**
+	 * Answer the number of ids that should be sent in the next request.
+	 *
+	 * @return the batch size
+	 */
+	public synchronized int get() {
+		return size;
+	}
+
+	/**
+	 * Adjust the size based on the response to a request.
+	 *
+	 * @param count   the number of ids that were sent in the request
+	 * @param elapsed the time (in milliseconds) that it took to get the response
+	 * @param code    the HTTP status code of the response
+	 */
+	public synchronized void record(int count, long elapsed, int code) {
+		if (code >= 500) {
+			shrink(count);
+		} else if (code == 200) {
+			if (elapsed > target) {
+				size = clamp(Math.min(size, (int) (count * target / elapsed)));
+			} else if (elapsed < target / 2 && count >= size) {
+				size = clamp(size + Math.max(1, size / 4));
+			}
+		}
+	}
+
+	/**
+	 * Adjust the size for a request that failed without a response that we could
+	 * use. This is treated the same as a server error.
+	 *
+	 * @param count the number of ids that were sent in the request
+	 */
+	public synchronized void recordFailure(int count) {
+		shrink(count);
+	}
+
+	private void shrink(int count) {
+		// Several requests of the same size may fail together; we only
+		// want to halve the size once for all of them.
+		size = clamp(Math.min(size, count / 2));
+	}
+
+	private int clamp(int value) {
+		return Math.max(minimum, Math.min(maximum, value));
+	}
+}
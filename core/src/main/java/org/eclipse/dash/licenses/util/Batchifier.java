@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 /**
  * Instances of {@link Batchifier} group the input that they're provided with
@@ -23,7 +24,7 @@ import java.util.function.Consumer;
  */
 public class Batchifier<T> {
 	private Consumer<Collection<T>> consumer = batch -> {};
-	private int batchSize = 1000;
+	private IntSupplier batchSize = () -> 1000;
 
 	public Batchifier() {
 	}
@@ -36,6 +37,18 @@ public class Batchifier<T> {
 	 * @return the receiver
 	 */
 	public Batchifier<T> setBatchSize(int batchSize) {
+		return setBatchSize(() -> batchSize);
+	}
+
+	/**
+	 * Set the source of the maximum batch size. The source is asked for the size
+	 * at the start of each batch, so the batch size may change as we go.
+	 *
+	 * @param batchSize the source of the maximum size of batches sent to the
+	 *                  consumer.
+	 * @return the receiver
+	 */
+	public Batchifier<T> setBatchSize(IntSupplier batchSize) {
 		this.batchSize = batchSize;
 		return this;
 	}
@@ -67,11 +80,12 @@ public class Batchifier<T> {
 	 */
 	public Batchifier<T> batchify(Iterator<T> input) {
 		while (input.hasNext()) {
+			int size = batchSize.getAsInt();
 			List<T> batch = new ArrayList<>();
 			while (input.hasNext()) {
 				T id = input.next();
 				batch.add(id);
-				if (batch.size() >= batchSize)
+				if (batch.size() >= size)
 					break;
 			}
 			consumer.accept(batch);
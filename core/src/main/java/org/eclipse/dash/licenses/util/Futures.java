@@ -0,0 +1,62 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Helpers for working with {@link CompletableFuture}s.
+ */
+public final class Futures {
+
+	private Futures() {
+	}
+
+	/**
+	 * Wait for the future to complete and answer its value. When the future
+	 * completes exceptionally, the exception that caused it is thrown as is (when
+	 * it is unchecked) rather than wrapped in a {@link CompletionException}, so
+	 * that callers see the same exceptions that the synchronous code throws.
+	 */
+	public static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw propagate(e);
+		}
+	}
+
+	/**
+	 * Answer the exception that actually caused the failure of a future (i.e.,
+	 * without the {@link CompletionException} or {@link ExecutionException} that
+	 * wraps it).
+	 */
+	public static Throwable unwrap(Throwable exception) {
+		while ((exception instanceof CompletionException || exception instanceof ExecutionException)
+				&& exception.getCause() != null) {
+			exception = exception.getCause();
+		}
+		return exception;
+	}
+
+	/**
+	 * Answer an unchecked exception to throw for the failure of a future.
+	 */
+	public static RuntimeException propagate(Throwable exception) {
+		var cause = unwrap(exception);
+		if (cause instanceof RuntimeException)
+			return (RuntimeException) cause;
+		if (cause instanceof Error)
+			throw (Error) cause;
+		return new RuntimeException(cause);
+	}
+}
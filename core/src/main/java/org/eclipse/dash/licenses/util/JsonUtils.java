@@ -22,6 +22,8 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 
 public final class JsonUtils {
 	public static String toJson(Collection<IContentId> ids) {
@@ -49,4 +51,32 @@ public final class JsonUtils {
 		JsonReader reader = Json.createReader(content);
 		return reader.read().asJsonArray();
 	}
+
+	/**
+	 * Skip over the value that starts with the event; when the event is the start
+	 * of an object or array, the parser is left positioned on the matching end.
+	 * 
+	 * <p>
+	 * We walk the events rather than use {@link JsonParser#skipObject()} and
+	 * {@link JsonParser#skipArray()}, which spin forever on truncated input.
+	 */
+	public static void skip(JsonParser parser, Event event) {
+		if (event != Event.START_OBJECT && event != Event.START_ARRAY)
+			return;
+
+		int depth = 1;
+		while (depth > 0) {
+			switch (parser.next()) {
+			case START_OBJECT:
+			case START_ARRAY:
+				depth++;
+				break;
+			case END_OBJECT:
+			case END_ARRAY:
+				depth--;
+				break;
+			default:
+			}
+		}
+	}
 }
@@ -0,0 +1,85 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Instances of {@link Throttle} limit the number of asynchronous tasks that are
+ * running at the same time. Tasks that are submitted while the limit has been
+ * reached wait in line (without tying up a thread) and are started, in the
+ * order that they were submitted, as the running tasks complete.
+ */
+public class Throttle {
+	private final int limit;
+	private final Deque<Runnable> waiting = new ArrayDeque<>();
+	private int running;
+
+	/**
+	 * @param limit the maximum number of tasks that run at the same time
+	 */
+	public Throttle(int limit) {
+		if (limit < 1)
+			throw new IllegalArgumentException("The limit must be at least one.");
+		this.limit = limit;
+	}
+
+	/**
+	 * Start the task now if fewer than the limit are running; otherwise start it
+	 * when it gets to the front of the line.
+	 *
+	 * @param task answers a future that completes when the task is done
+	 * @return a future that completes the way that the task's future does
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		Runnable start = () -> {
+			CompletableFuture<T> future;
+			try {
+				future = task.get();
+			} catch (RuntimeException | Error e) {
+				future = CompletableFuture.failedFuture(e);
+			}
+			future.whenComplete((value, exception) -> {
+				release();
+				if (exception != null) {
+					result.completeExceptionally(Futures.unwrap(exception));
+				} else {
+					result.complete(value);
+				}
+			});
+		};
+
+		synchronized (this) {
+			if (running >= limit) {
+				waiting.add(start);
+				return result;
+			}
+			running++;
+		}
+		start.run();
+		return result;
+	}
+
+	private void release() {
+		Runnable next;
+		synchronized (this) {
+			next = waiting.poll();
+			// The next task takes over the slot.
+			if (next == null)
+				running--;
+		}
+		if (next != null)
+			next.run();
+	}
+}
@@ -0,0 +1,84 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.dash.licenses.util.AdaptiveBatchSize;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchSizeTests {
+
+	@Test
+	void testInitialSize() {
+		assertEquals(500, new AdaptiveBatchSize(500).get());
+	}
+
+	@Test
+	void testServerErrorHalvesSize() {
+		var batchSize = new AdaptiveBatchSize(500, 1000);
+		batchSize.record(500, 100, 524);
+		assertEquals(250, batchSize.get());
+
+		// A second failure of a request of the original size doesn't shrink it
+		// any further.
+		batchSize.record(500, 100, 524);
+		assertEquals(250, batchSize.get());
+
+		batchSize.record(250, 100, 500);
+		assertEquals(125, batchSize.get());
+	}
+
+	@Test
+	void testFailureHalvesSize() {
+		var batchSize = new AdaptiveBatchSize(500, 1000);
+		batchSize.recordFailure(500);
+		assertEquals(250, batchSize.get());
+	}
+
+	@Test
+	void testSlowResponseShrinksSize() {
+		var batchSize = new AdaptiveBatchSize(500, 1000);
+		batchSize.record(500, 2000, 200);
+		assertEquals(250, batchSize.get());
+	}
+
+	@Test
+	void testFastResponseGrowsSize() {
+		var batchSize = new AdaptiveBatchSize(500, 1000);
+		batchSize.record(500, 100, 200);
+		assertEquals(625, batchSize.get());
+
+		// A partial batch tells us nothing about how much more we could send.
+		batchSize.record(10, 100, 200);
+		assertEquals(625, batchSize.get());
+	}
+
+	@Test
+	void testOtherResponsesAreIgnored() {
+		var batchSize = new AdaptiveBatchSize(500, 1000);
+		batchSize.record(500, 100, 404);
+		assertEquals(500, batchSize.get());
+	}
+
+	@Test
+	void testBounds() {
+		var batchSize = new AdaptiveBatchSize(160, 1000);
+		for (int index = 0; index < 20; index++) {
+			batchSize.record(batchSize.get(), 100, 200);
+		}
+		assertEquals(640, batchSize.get());
+
+		for (int index = 0; index < 20; index++) {
+			batchSize.record(batchSize.get(), 100, 524);
+		}
+		assertEquals(10, batchSize.get());
+	}
+}
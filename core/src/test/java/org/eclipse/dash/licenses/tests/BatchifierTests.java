@@ -11,9 +11,12 @@ package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.eclipse.dash.licenses.util.Batchifier;
@@ -41,4 +44,13 @@ class BatchifierTests {
 		assertEquals(1, batches.size());
 	}
 
+	@Test
+	void testChangingBatchSize() {
+		final List<Integer> sizes = new ArrayList<>();
+		var batchSize = new AtomicInteger(2);
+		new Batchifier<Integer>().setBatchSize(batchSize::getAndIncrement).setConsumer(batch -> {
+			sizes.add(batch.size());
+		}).batchify(IntStream.range(0, 10).iterator());
+		assertEquals(List.of(2, 3, 4, 1), sizes);
+	}
 }
@@ -0,0 +1,58 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.dash.licenses.ContentId;
+import org.eclipse.dash.licenses.LicenseData;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.cache.CachedContentData;
+import org.eclipse.dash.licenses.cli.CSVCollector;
+import org.junit.jupiter.api.Test;
+
+class CSVCollectorTests {
+
+	private LicenseData getLicenseData() {
+		var id = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+		var data = new LicenseData(id);
+		data.addContentData(new CachedContentData(id, "MIT", 100, Status.Approved, "clearlydefined", null, null));
+		return data;
+	}
+
+	@Test
+	void testFormat() {
+		var output = new ByteArrayOutputStream();
+		var collector = new CSVCollector(output);
+		collector.accept(getLicenseData(), List.of("a.txt", "b.txt"));
+		collector.close();
+
+		// The input files are not included unless we ask for them.
+		assertEquals("npm/npmjs/-/write/1.0.3, MIT, approved, clearlydefined" + System.lineSeparator(),
+				output.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testInputs() {
+		var output = new ByteArrayOutputStream();
+		var collector = new CSVCollector(output, true);
+		collector.accept(getLicenseData(), List.of("a b.txt", "c,d.txt", "e\"f.txt"));
+		collector.close();
+
+		assertEquals(
+				"npm/npmjs/-/write/1.0.3, MIT, approved, clearlydefined, \"a b.txt\", \"c,d.txt\", \"e\"\"f.txt\""
+						+ System.lineSeparator(),
+				output.toString(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,209 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.dash.licenses.IProxySettings;
+import org.eclipse.dash.licenses.ISettings;
+import org.eclipse.dash.licenses.http.CachedResource;
+import org.eclipse.dash.licenses.http.HttpClientService;
+import org.eclipse.dash.licenses.http.IHttpClientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Providers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+class CachedResourceTests {
+
+	@TempDir
+	Path folder;
+
+	private HttpServer server;
+	private IHttpClientService httpClientService;
+
+	private String content = "{\"approved\": {\"EPL-2.0\": \"Eclipse Public License 2.0\"}}";
+	private String etag = "\"1\"";
+
+	/** The If-None-Match header of each of the requests that the server has seen. */
+	private List<String> requests = new ArrayList<>();
+
+	@BeforeEach
+	void setup() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+
+		httpClientService = Guice.createInjector(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(ISettings.class).toInstance(new ISettings() {
+				});
+				bind(IProxySettings.class).toProvider(Providers.of(null));
+			}
+		}).getInstance(HttpClientService.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		var match = exchange.getRequestHeaders().getFirst("If-None-Match");
+		requests.add(match);
+
+		if (etag.equals(match)) {
+			exchange.sendResponseHeaders(304, -1);
+			exchange.close();
+			return;
+		}
+
+		var body = content.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("ETag", etag);
+		exchange.sendResponseHeaders(200, body.length);
+		try (var output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+
+	private String getUrl() {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+				+ "/licenses.json";
+	}
+
+	private String get(CachedResource resource) {
+		List<String> results = new ArrayList<>();
+		resource.get("application/json", input -> results.add(read(input)));
+		return results.isEmpty() ? null : results.get(0);
+	}
+
+	private String read(InputStream input) {
+		try {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Test
+	void testNotModified() {
+		var file = folder.resolve("licenses.json").toFile();
+		var resource = new CachedResource(httpClientService, getUrl(), file);
+
+		assertEquals(content, get(resource));
+		assertEquals(content, get(resource));
+
+		assertEquals(2, requests.size());
+		assertNull(requests.get(0));
+		assertEquals(etag, requests.get(1));
+	}
+
+	@Test
+	void testModified() {
+		var file = folder.resolve("licenses.json").toFile();
+		var resource = new CachedResource(httpClientService, getUrl(), file);
+		get(resource);
+
+		content = "{\"approved\": {}}";
+		etag = "\"2\"";
+
+		assertEquals(content, get(resource));
+		assertEquals(content, get(new CachedResource(httpClientService, getUrl(), file)));
+		assertEquals(List.of("\"2\""), requests.subList(2, 3));
+	}
+
+	@Test
+	void testOffline() {
+		var file = folder.resolve("licenses.json").toFile();
+		var url = getUrl();
+		get(new CachedResource(httpClientService, url, file));
+
+		server.stop(0);
+
+		assertEquals(content, get(new CachedResource(httpClientService, url, file)));
+	}
+
+	@Test
+	void testOfflineWithoutLocalCopy() {
+		var file = folder.resolve("licenses.json").toFile();
+		var url = getUrl();
+
+		server.stop(0);
+
+		assertThrows(RuntimeException.class, () -> get(new CachedResource(httpClientService, url, file)));
+	}
+
+	@Test
+	void testLocalCopyOfDifferentUrlIsIgnored() {
+		var file = folder.resolve("licenses.json").toFile();
+		get(new CachedResource(httpClientService, getUrl(), file));
+		get(new CachedResource(httpClientService, getUrl() + "?other", file));
+
+		assertEquals(2, requests.size());
+		assertNull(requests.get(1));
+	}
+
+	@Test
+	void testUnwritableLocalCopy() throws IOException {
+		// The parent of the local copy is a file, so we can't write it.
+		var parent = folder.resolve("parent").toFile();
+		parent.createNewFile();
+		var file = new File(parent, "licenses.json");
+
+		assertEquals(content, get(new CachedResource(httpClientService, getUrl(), file)));
+	}
+
+	@Test
+	void testFailedWriteLeavesNothingBehind() throws IOException {
+		var file = folder.resolve("licenses.json").toFile();
+		var resource = new CachedResource(httpClientService, getUrl(), file);
+		assertEquals(content, get(resource));
+
+		// The local copy can't be replaced by a new one when it's a directory with
+		// something in it.
+		file.delete();
+		file.mkdir();
+		new File(file, "child").createNewFile();
+		etag = "\"2\"";
+		assertEquals(content, get(resource));
+
+		// We don't leave temporary files behind, or keep the headers of the copy
+		// that we failed to replace.
+		try (var files = Files.list(folder)) {
+			assertEquals(List.of("licenses.json"),
+					files.map(each -> each.getFileName().toString()).collect(Collectors.toList()));
+		}
+
+		get(resource);
+		assertNull(requests.get(2));
+	}
+}
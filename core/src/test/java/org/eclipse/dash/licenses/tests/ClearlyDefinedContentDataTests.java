@@ -11,7 +11,9 @@ package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -38,6 +40,7 @@ class ClearlyDefinedContentDataTests {
 		assertEquals("1.0.3", info.getRevision());
 		assertArrayEquals(new String[] { "MIT" }, info.discoveredLicenses().toArray(String[]::new));
 		assertEquals(94, info.getScore());
+		assertTrue(info.isKnown());
 		assertEquals(97, info.getEffectiveScore());
 		assertEquals("https://clearlydefined.io/definitions/npm/npmjs/-/write/1.0.3", info.getUrl());
 		assertEquals("https://github.com/jonschlinkert/write/tree/f5397515060bf42f75151fcc3c4722517e4e322a",
@@ -64,5 +67,6 @@ class ClearlyDefinedContentDataTests {
 		assertEquals(0, info.getEffectiveScore());
 		assertEquals("", info.getLicense());
 		assertArrayEquals(new String[] {}, info.discoveredLicenses().toArray(String[]::new));
+		assertFalse(info.isKnown());
 	}
 }
@@ -0,0 +1,93 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedContentData;
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedResponseReader;
+import org.eclipse.dash.licenses.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonParsingException;
+
+class ClearlyDefinedResponseReaderTests {
+
+	@Test
+	void testSameAsFullDefinition() {
+		JsonObject expected = JsonUtils.readJson(this.getClass().getResourceAsStream("/definitions.json"));
+
+		Map<String, JsonObject> actual = new LinkedHashMap<>();
+		new ClearlyDefinedResponseReader().read(this.getClass().getResourceAsStream("/definitions.json"),
+				actual::put);
+
+		assertArrayEquals(expected.keySet().toArray(), actual.keySet().toArray());
+
+		expected.forEach((id, value) -> {
+			var full = new ClearlyDefinedContentData(id, value.asJsonObject());
+			var pruned = new ClearlyDefinedContentData(id, actual.get(id));
+
+			assertEquals(full.getLicense(), pruned.getLicense());
+			assertEquals(full.getLicenseScore(), pruned.getLicenseScore());
+			assertEquals(full.getEffectiveScore(), pruned.getEffectiveScore());
+			assertEquals(full.getRevision(), pruned.getRevision());
+			assertArrayEquals(full.discoveredLicenses().toArray(), pruned.discoveredLicenses().toArray());
+
+			if (value.asJsonObject().getJsonObject("described").containsKey("sourceLocation")) {
+				assertEquals(full.getSourceLocation().getUrl(), pruned.getSourceLocation().getUrl());
+				assertEquals(full.getSourceLocation().getDownloadUrl(), pruned.getSourceLocation().getDownloadUrl());
+			}
+		});
+	}
+
+	@Test
+	void testIrrelevantContentIsDropped() {
+		Map<String, JsonObject> actual = new LinkedHashMap<>();
+		new ClearlyDefinedResponseReader().read(this.getClass().getResourceAsStream("/definitions.json"),
+				actual::put);
+
+		actual.values().forEach(each -> {
+			assertFalse(each.containsKey("files"));
+			assertFalse(each.containsKey("_meta"));
+			assertFalse(each.getJsonObject("licensed").containsKey("toolScore"));
+		});
+	}
+
+	@Test
+	void testNotJson() {
+		var input = new ByteArrayInputStream("An error occurred".getBytes(StandardCharsets.UTF_8));
+		assertThrows(JsonParsingException.class, () -> new ClearlyDefinedResponseReader().read(input, (id, data) -> {
+		}));
+	}
+
+	@Test
+	void testNotAnObject() {
+		var input = new ByteArrayInputStream("[\"npm/npmjs/-/write/1.0.3\"]".getBytes(StandardCharsets.UTF_8));
+		assertThrows(JsonParsingException.class, () -> new ClearlyDefinedResponseReader().read(input, (id, data) -> {
+		}));
+	}
+
+	@Test
+	void testTruncated() {
+		var input = new ByteArrayInputStream(
+				"{\"npm/npmjs/-/write/1.0.3\": {\"files\": [{\"path\": \"a\"}, [".getBytes(StandardCharsets.UTF_8));
+		assertThrows(JsonParsingException.class, () -> new ClearlyDefinedResponseReader().read(input, (id, data) -> {
+		}));
+	}
+}
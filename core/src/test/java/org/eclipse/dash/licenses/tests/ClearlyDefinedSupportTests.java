@@ -11,20 +11,31 @@ package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.InputStream;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.dash.licenses.ContentId;
 import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.ISettings;
 import org.eclipse.dash.licenses.LicenseSupport;
 import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedContentData;
 import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedSupport;
+import org.eclipse.dash.licenses.http.IHttpClientService;
 import org.eclipse.dash.licenses.tests.util.TestLicenseToolModule;
 import org.eclipse.dash.licenses.util.JsonUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -80,6 +91,72 @@ class ClearlyDefinedSupportTests {
 		assertEquals(LicenseSupport.Status.Restricted, write.getStatus());
 	}
 
+	/**
+	 * The results must be for the very same ids that we asked about, not ids
+	 * parsed back out of the response.
+	 */
+	@Test
+	void testResultsAreForRequestedIds() {
+		var write = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+		IContentId requested = new IContentId() {
+			@Override
+			public String getNamespace() {
+				return write.getNamespace();
+			}
+
+			@Override
+			public String getName() {
+				return write.getName();
+			}
+
+			@Override
+			public String getVersion() {
+				return write.getVersion();
+			}
+
+			@Override
+			public String getType() {
+				return write.getType();
+			}
+
+			@Override
+			public String getSource() {
+				return write.getSource();
+			}
+
+			@Override
+			public boolean isValid() {
+				return true;
+			}
+
+			@Override
+			public String toString() {
+				return write.toString();
+			}
+		};
+
+		List<IContentData> results = new ArrayList<>();
+		clearlyDefined.queryLicenseData(Collections.singleton(requested), data -> results.add(data));
+
+		assertEquals(1, results.size());
+		assertSame(requested, results.get(0).getId());
+	}
+
+	@Test
+	void testQueryAsync() {
+		List<IContentData> results = new ArrayList<>();
+
+		var query = clearlyDefined.queryLicenseDataAsync(
+				List.of(ContentId.getContentId("npm/npmjs/-/write/1.0.3"),
+						ContentId.getContentId("npm/npmjs/@yarnpkg/lockfile/1.1.0")),
+				data -> results.add(data), command -> fail("The executor should not be used"));
+		query.join();
+
+		assertEquals(2, results.size());
+		assertEquals(LicenseSupport.Status.Approved, results.get(0).getStatus());
+		assertEquals(LicenseSupport.Status.Restricted, results.get(1).getStatus());
+	}
+
 	@Test
 	void testEmptyRequest() {
 		List<IContentData> results = new ArrayList<>();
@@ -146,6 +223,187 @@ class ClearlyDefinedSupportTests {
 		assertEquals(7, results.size());
 	}
 
+	@Test
+	void testProblematicIdsAreNotSentAgain() {
+		List<String> payloads = Collections.synchronizedList(new ArrayList<>());
+		var module = new TestLicenseToolModule() {
+			@Override
+			public IHttpClientService getHttpClientService() {
+				var service = super.getHttpClientService();
+				return new IHttpClientService() {
+					@Override
+					public int post(String url, String contentType, String payload, Consumer<String> handler) {
+						payloads.add(payload);
+						return service.post(url, contentType, payload, handler);
+					}
+
+					@Override
+					public int get(String url, String contentType, Consumer<InputStream> handler) {
+						return service.get(url, contentType, handler);
+					}
+				};
+			}
+		};
+		clearlyDefined = Guice.createInjector(module).getInstance(ClearlyDefinedSupport.class);
+
+		// @formatter:off
+		var packages = new String[] { 
+				"npm/npmjs/-/write/1.0.3", 
+				"npm/npmjs/-/write/1.0.4",
+				"npm/npmjs/breaky/mcbreakyface/1.0.0",
+				"npm/npmjs/-/write/1.0.5" 
+			};
+		// @formatter:on
+		var ids = Arrays.stream(packages).map(each -> ContentId.getContentId(each)).collect(Collectors.toList());
+
+		List<IContentData> results = new ArrayList<>();
+		clearlyDefined.queryLicenseData(ids, data -> results.add(data));
+		assertEquals(3, results.size());
+
+		// The first request fails; we then send each of the ids on its own.
+		assertEquals(5, payloads.size());
+
+		payloads.clear();
+		results.clear();
+		clearlyDefined.queryLicenseData(ids, data -> results.add(data));
+		assertEquals(3, results.size());
+		assertEquals(1, payloads.size());
+		assertFalse(payloads.get(0).contains("breaky"));
+	}
+
+	@Test
+	void testRecoveryRequestsAreThrottled() {
+		var inFlight = new AtomicInteger();
+		var maximum = new AtomicInteger();
+		var requests = new AtomicInteger();
+		var settings = new ISettings() {
+			@Override
+			public int getParallelism() {
+				return 2;
+			}
+		};
+		var module = new TestLicenseToolModule(settings) {
+			@Override
+			public IHttpClientService getHttpClientService() {
+				var service = super.getHttpClientService();
+				return new IHttpClientService() {
+					@Override
+					public CompletableFuture<Integer> postForStreamAsync(String url, String contentType,
+							String payload, Consumer<InputStream> handler) {
+						requests.incrementAndGet();
+						maximum.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+						return CompletableFuture.supplyAsync(() -> {
+							try {
+								return service.postForStream(url, contentType, payload, handler);
+							} finally {
+								inFlight.decrementAndGet();
+							}
+						}, CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+					}
+
+					@Override
+					public int get(String url, String contentType, Consumer<InputStream> handler) {
+						return service.get(url, contentType, handler);
+					}
+				};
+			}
+		};
+		clearlyDefined = Guice.createInjector(module).getInstance(ClearlyDefinedSupport.class);
+
+		List<IContentId> ids = new ArrayList<>();
+		for (int index = 0; index < 7; index++) {
+			ids.add(ContentId.getContentId("npm/npmjs/-/write/1.0." + index));
+		}
+		ids.add(ContentId.getContentId("npm/npmjs/breaky/mcbreakyface/1.0.0"));
+
+		List<IContentData> results = Collections.synchronizedList(new ArrayList<>());
+		clearlyDefined.queryLicenseData(ids, results::add);
+
+		assertEquals(7, results.size());
+		// The batch, and then each of the ids on its own (two at a time).
+		assertEquals(9, requests.get());
+		assertEquals(2, maximum.get());
+	}
+
+	@Test
+	void testRecoveryDoesNotShrinkBatchSize() {
+		var settings = new ISettings() {
+			@Override
+			public int getBatchSize() {
+				return 8;
+			}
+		};
+		var module = new TestLicenseToolModule(settings) {
+			@Override
+			public IHttpClientService getHttpClientService() {
+				var service = super.getHttpClientService();
+				return new IHttpClientService() {
+					@Override
+					public int post(String url, String contentType, String payload, Consumer<String> handler) {
+						// Time out whenever the problematic id is included.
+						if (payload.contains("breaky"))
+							return 524;
+						return service.post(url, contentType, payload, handler);
+					}
+
+					@Override
+					public int get(String url, String contentType, Consumer<InputStream> handler) {
+						return service.get(url, contentType, handler);
+					}
+				};
+			}
+		};
+		clearlyDefined = Guice.createInjector(module).getInstance(ClearlyDefinedSupport.class);
+
+		List<IContentId> ids = new ArrayList<>();
+		for (int index = 0; index < 7; index++) {
+			ids.add(ContentId.getContentId("npm/npmjs/-/write/1.0." + index));
+		}
+		ids.add(ContentId.getContentId("npm/npmjs/breaky/mcbreakyface/1.0.0"));
+
+		clearlyDefined.queryLicenseData(ids, data -> {});
+
+		// The batch failed, but the problematic id failing again on its own while
+		// we recover doesn't count.
+		assertEquals(4, clearlyDefined.getBatchSize(8));
+	}
+
+	@Test
+	void testFailedRequestShrinksBatchSize() {
+		var settings = new ISettings() {
+			@Override
+			public int getBatchSize() {
+				return 8;
+			}
+		};
+		var module = new TestLicenseToolModule(settings) {
+			@Override
+			public IHttpClientService getHttpClientService() {
+				var service = super.getHttpClientService();
+				return new IHttpClientService() {
+					@Override
+					public int post(String url, String contentType, String payload, Consumer<String> handler) {
+						throw new IllegalStateException("The connection failed.");
+					}
+
+					@Override
+					public int get(String url, String contentType, Consumer<InputStream> handler) {
+						return service.get(url, contentType, handler);
+					}
+				};
+			}
+		};
+		clearlyDefined = Guice.createInjector(module).getInstance(ClearlyDefinedSupport.class);
+
+		List<IContentId> ids = new ArrayList<>();
+		for (int index = 0; index < 8; index++) {
+			ids.add(ContentId.getContentId("npm/npmjs/-/write/1.0." + index));
+		}
+
+		assertThrows(IllegalStateException.class, () -> clearlyDefined.queryLicenseData(ids, data -> {}));
+		assertEquals(4, clearlyDefined.getBatchSize(8));
+	}
+
 	@Nested
 	class TestServiceMethods {
 
@@ -11,6 +11,7 @@ package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.dash.licenses.ISettings;
 import org.eclipse.dash.licenses.cli.CommandLineSettings;
@@ -48,6 +49,24 @@ class CommandLineSettingsTests {
 		assertFalse(settings.isValid());
 	}
 	
+	@Test
+	void testCustomParallelism() {
+		ISettings settings = CommandLineSettings.getSettings(new String[] { "-parallelism", "8" });
+		assertEquals(8, settings.getParallelism());
+	}
+
+	@Test
+	void testDefaultParallelism() {
+		ISettings settings = CommandLineSettings.getSettings(new String[] {});
+		assertEquals(ISettings.DEFAULT_PARALLELISM, settings.getParallelism());
+	}
+
+	@Test
+	void testInvalidParallelism() {
+		CommandLineSettings settings = CommandLineSettings.getSettings(new String[] { "-parallelism", "0", "-" });
+		assertFalse(settings.isValid());
+	}
+
 	@Test
 	void testCustomConfidence() {
 		ISettings settings = CommandLineSettings.getSettings(new String[] { "-confidence", "42" });
@@ -60,4 +79,22 @@ class CommandLineSettingsTests {
 		assertEquals(ISettings.DEFAULT_THRESHOLD, settings.getConfidenceThreshold());
 	}
 
+	@Test
+	void testDeduplicate() {
+		CommandLineSettings settings = CommandLineSettings.getSettings(new String[] { "-dedup", "a", "b" });
+		assertTrue(settings.isDeduplicate());
+		assertTrue(settings.isValid());
+	}
+
+	@Test
+	void testDefaultDeduplicate() {
+		assertFalse(CommandLineSettings.getSettings(new String[] { "a" }).isDeduplicate());
+	}
+
+	@Test
+	void testSummaryInputs() {
+		assertTrue(CommandLineSettings.getSettings(new String[] { "-dedup", "-summaryInputs", "a" }).isSummaryInputs());
+		assertFalse(CommandLineSettings.getSettings(new String[] { "-dedup", "a" }).isSummaryInputs());
+	}
+
 }
@@ -11,10 +11,13 @@ package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.eclipse.dash.licenses.ContentId;
 import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.NpmJsIdParser;
 import org.junit.jupiter.api.Test;
 
 class ContentIdTests {
@@ -39,4 +42,19 @@ class ContentIdTests {
 	void testInvalidVersion() {
 		assertNull(ContentId.getContentId("npm/npmjs/-/stuff/file:target/stuff"));
 	}
+
+	@Test
+	void testEquals() {
+		IContentId id = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+		assertEquals(id, ContentId.getContentId("npm", "npmjs", "-", "write", "1.0.3"));
+		assertEquals("npm/npmjs/-/write/1.0.3".hashCode(), id.hashCode());
+		assertNotEquals(id, ContentId.getContentId("npm/npmjs/-/write/1.0.4"));
+	}
+
+	@Test
+	void testEqualIdsAreInterned() {
+		IContentId id = ContentId.getContentId("npm/npmjs/@babel/core/7.12.3");
+		assertSame(id, ContentId.getContentId("npm", "npmjs", "@babel", "core", "7.12.3"));
+		assertSame(id, new NpmJsIdParser().parseId("@babel/core@7.12.3"));
+	}
 }
@@ -0,0 +1,114 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.dash.licenses.ISettings;
+import org.eclipse.dash.licenses.LicenseChecker;
+import org.eclipse.dash.licenses.LicenseData;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.cli.DeduplicatingCheck;
+import org.eclipse.dash.licenses.cli.FlatFileReader;
+import org.eclipse.dash.licenses.cli.IResultsCollector;
+import org.eclipse.dash.licenses.http.IHttpClientService;
+import org.eclipse.dash.licenses.tests.util.TestLicenseToolModule;
+import org.eclipse.dash.licenses.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Guice;
+
+import jakarta.json.JsonString;
+
+class DeduplicatingCheckTests {
+
+	/**
+	 * Keeps track of what the collector is handed.
+	 */
+	class TestCollector implements IResultsCollector {
+		Map<String, LicenseData> accepted = new HashMap<>();
+		Map<String, Collection<String>> inputs = new HashMap<>();
+
+		@Override
+		public void accept(LicenseData data) {
+			assertNull(accepted.put(data.getId().toString(), data));
+		}
+
+		@Override
+		public void accept(LicenseData data, Collection<String> inputs) {
+			this.inputs.put(data.getId().toString(), inputs);
+			accept(data);
+		}
+	}
+
+	@Test
+	void testSharedContentIsCheckedOnce() {
+		// Keep track of the ids that are sent to ClearlyDefined.
+		List<String> sent = Collections.synchronizedList(new ArrayList<>());
+		var settings = new ISettings() {
+		};
+		var module = new TestLicenseToolModule(settings) {
+			@Override
+			public IHttpClientService getHttpClientService() {
+				var service = super.getHttpClientService();
+				return new IHttpClientService() {
+					@Override
+					public int post(String url, String contentType, String payload, Consumer<String> handler) {
+						if (url.equals(settings.getClearlyDefinedDefinitionsUrl())) {
+							JsonUtils.readJsonArray(new StringReader(payload))
+									.forEach(each -> sent.add(((JsonString) each).getString()));
+						}
+						return service.post(url, contentType, payload, handler);
+					}
+
+					@Override
+					public int get(String url, String contentType, Consumer<InputStream> handler) {
+						return service.get(url, contentType, handler);
+					}
+				};
+			}
+		};
+		var checker = Guice.createInjector(module).getInstance(LicenseChecker.class);
+
+		var check = new DeduplicatingCheck();
+		check.add("a.txt",
+				new FlatFileReader(new StringReader("npm/npmjs/-/write/1.0.3\nnpm/npmjs/@yarnpkg/lockfile/1.1.0\n"))
+						.streamContentIds());
+		check.add("b c.txt",
+				new FlatFileReader(new StringReader("npm/npmjs/-/write/1.0.4\nnpm/npmjs/-/write/1.0.3\n"))
+						.streamContentIds());
+
+		var first = new TestCollector();
+		var second = new TestCollector();
+		check.check(checker, List.of(first, second));
+
+		assertEquals(List.of("npm/npmjs/-/write/1.0.3", "npm/npmjs/@yarnpkg/lockfile/1.1.0", "npm/npmjs/-/write/1.0.4"),
+				sent);
+
+		for (TestCollector collector : List.of(first, second)) {
+			assertEquals(3, collector.accepted.size());
+			assertEquals(List.of("a.txt", "b c.txt"), List.copyOf(collector.inputs.get("npm/npmjs/-/write/1.0.3")));
+			assertEquals(List.of("a.txt"), List.copyOf(collector.inputs.get("npm/npmjs/@yarnpkg/lockfile/1.1.0")));
+			assertEquals(List.of("b c.txt"), List.copyOf(collector.inputs.get("npm/npmjs/-/write/1.0.4")));
+			assertEquals(Status.Approved, collector.accepted.get("npm/npmjs/-/write/1.0.3").getStatus());
+		}
+	}
+}
@@ -10,6 +10,7 @@
 package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.StringReader;
 
@@ -31,4 +32,23 @@ class FlatFileReaderTests {
 				new FlatFileReader(new StringReader(contents)).getContentIds().get(0).toString());
 	}
 
+	@Test
+	void testMixedFormats() {
+		// @formatter:off
+		var contents = "   org.apache.commons:commons-lang3:jar:3.12.0:compile -- module org.apache.commons.lang3\n"
+				+ "pkg:npm/%40babel/highlight@7.5.0\n"
+				+ "@babel/highlight@7.5.0\n"
+				+ "github.com/go-yaml/yaml v2.1.0+incompatible h1:RYi2hDdss1u4YE7GwixGzWwVo47T8UQwnTLB6vQiq+o=\n"
+				+ "npm/npmjs/-/highlight/7.5.0\n"
+				+ "not an id";
+		// @formatter:on
+		var ids = new FlatFileReader(new StringReader(contents)).getContentIds();
+		assertEquals("maven/mavencentral/org.apache.commons/commons-lang3/3.12.0", ids.get(0).toString());
+		assertEquals("npm/npmjs/@babel/highlight/7.5.0", ids.get(1).toString());
+		assertEquals("go/golang/github.com%2Fgo-yaml/yaml/v2.1.0", ids.get(2).toString());
+		assertEquals("npm/npmjs/-/highlight/7.5.0", ids.get(3).toString());
+		assertFalse(ids.get(4).isValid());
+		assertEquals(5, ids.size());
+	}
+
 }
@@ -10,9 +10,11 @@
 package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.StringReader;
 
+import org.eclipse.dash.licenses.ContentId;
 import org.eclipse.dash.licenses.LicenseSupport.Status;
 import org.eclipse.dash.licenses.foundation.FoundationData;
 import org.eclipse.dash.licenses.util.JsonUtils;
@@ -40,6 +42,15 @@ class FoundationDataTests {
 		assertEquals(100, data.getScore());
 	}
 
+	@Test
+	void testKnownId() {
+		String json = "{\"id\": \"maven/mavencentral/com.google.guava/guava/15.0\"}";
+
+		var id = ContentId.getContentId("maven/mavencentral/com.google.guava/guava/15.0");
+		assertSame(id, new FoundationData(id, JsonUtils.readJson(new StringReader(json))).getId());
+		assertEquals(id, new FoundationData(JsonUtils.readJson(new StringReader(json))).getId());
+	}
+
 	@Test
 	void testNumericConfidence() {
 		// @formatter:off
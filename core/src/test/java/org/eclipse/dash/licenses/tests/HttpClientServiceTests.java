@@ -0,0 +1,158 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dash.licenses.IProxySettings;
+import org.eclipse.dash.licenses.ISettings;
+import org.eclipse.dash.licenses.http.HttpClientService;
+import org.eclipse.dash.licenses.http.IHttpClientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Providers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+class HttpClientServiceTests {
+
+	private HttpServer server;
+	private IHttpClientService httpClientService;
+
+	/** The remote ports of the connections that the server has seen. */
+	private Set<Integer> connections = ConcurrentHashMap.newKeySet();
+	private AtomicInteger requests = new AtomicInteger();
+
+	/** The number of requests that the server answers with HTTP 502 (bad gateway). */
+	private AtomicInteger badGateways = new AtomicInteger();
+
+	@BeforeEach
+	void setup() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+
+		httpClientService = Guice.createInjector(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(ISettings.class).toInstance(new ISettings() {
+				});
+				bind(IProxySettings.class).toProvider(Providers.of(null));
+			}
+		}).getInstance(HttpClientService.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		connections.add(exchange.getRemoteAddress().getPort());
+		requests.incrementAndGet();
+
+		exchange.getRequestBody().readAllBytes();
+		if ("HEAD".equals(exchange.getRequestMethod())) {
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+			return;
+		}
+
+		if (badGateways.getAndDecrement() > 0) {
+			exchange.sendResponseHeaders(502, -1);
+			exchange.close();
+			return;
+		}
+
+		var body = "{}".getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(200, body.length);
+		try (var output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+
+	private String getUrl() {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+	}
+
+	@Test
+	void testConnectionsAreReused() {
+		for (int index = 0; index < 5; index++) {
+			assertEquals(200, httpClientService.post(getUrl(), "application/json", "[]", response -> {}));
+			assertEquals(200, httpClientService.get(getUrl(), "application/json", this::consume));
+		}
+
+		assertEquals(10, requests.get());
+		assertEquals(1, connections.size());
+	}
+
+	@Test
+	void testPostAsync() {
+		List<String> responses = new ArrayList<>();
+		var code = httpClientService
+				.postForStreamAsync(getUrl(), "application/json", "[]", input -> responses.add(read(input)));
+
+		assertEquals(200, code.join());
+		assertEquals(List.of("{}"), responses);
+	}
+
+	@Test
+	void testPostAsyncRetriesBadGateway() {
+		badGateways.set(1);
+
+		List<String> responses = new ArrayList<>();
+		var code = httpClientService
+				.postForStreamAsync(getUrl(), "application/json", "[]", input -> responses.add(read(input)));
+
+		assertEquals(200, code.join());
+		assertEquals(List.of("{}"), responses);
+		assertEquals(2, requests.get());
+	}
+
+	@Test
+	void testRemoteFileExists() {
+		assertTrue(httpClientService.remoteFileExists(getUrl()));
+		assertTrue(httpClientService.remoteFileExists(getUrl()));
+
+		assertEquals(1, connections.size());
+	}
+
+	private String read(InputStream input) {
+		try {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void consume(InputStream input) {
+		try {
+			input.readAllBytes();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
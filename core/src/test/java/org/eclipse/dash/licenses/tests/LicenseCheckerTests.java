@@ -11,12 +11,27 @@ package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.eclipse.dash.licenses.ContentId;
+import org.eclipse.dash.licenses.IContentData;
 import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.ILicenseDataProvider;
+import org.eclipse.dash.licenses.ISettings;
 import org.eclipse.dash.licenses.LicenseChecker;
 import org.eclipse.dash.licenses.LicenseData;
 import org.eclipse.dash.licenses.LicenseSupport;
@@ -24,8 +39,10 @@ import org.eclipse.dash.licenses.tests.util.TestLicenseToolModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.multibindings.Multibinder;
 
 class LicenseCheckerTests {
 
@@ -66,4 +83,198 @@ class LicenseCheckerTests {
 		assertNull(data.getLicense());
 		assertEquals(LicenseSupport.Status.Restricted, data.getStatus());
 	}
+
+	@Test
+	void testConcurrentQueries() {
+		var settings = new ISettings() {
+			@Override
+			public int getBatchSize() {
+				return 1;
+			}
+
+			@Override
+			public int getParallelism() {
+				return 4;
+			}
+		};
+		licenseChecker = Guice.createInjector(new TestLicenseToolModule(settings)).getInstance(LicenseChecker.class);
+
+		// @formatter:off
+		List<IContentId> ids = Arrays.asList(
+				ContentId.getContentId("npm/npmjs/-/write/0.2.0"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.3"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.4"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.5"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.6"),
+				ContentId.getContentId("npm/npmjs/@yarnpkg/lockfile/1.1.0"),
+				ContentId.getContentId("npm/npmjs/@yarnpkg/lockfile/1.1.1"),
+				ContentId.getContentId("npm/npmjs/@yarnpkg/lockfile/1.1.2"),
+				ContentId.getContentId("npm/npmjs/@yarnpkg/lockfile/1.1.3"));
+		// @formatter:on
+
+		Map<IContentId, LicenseData> licenseData = licenseChecker.getLicenseData(ids);
+
+		assertEquals(ids.size(), licenseData.size());
+
+		// Approved by the heavier provider; never sent to ClearlyDefined.
+		LicenseData foundation = licenseData.get(ids.get(0));
+		assertEquals("CQ7766", foundation.getAuthority());
+		assertEquals(1, foundation.contentData().count());
+
+		ids.subList(1, 5).forEach(id -> {
+			assertEquals("MIT", licenseData.get(id).getLicense());
+			assertEquals(LicenseSupport.Status.Approved, licenseData.get(id).getStatus());
+		});
+		ids.subList(5, 9).forEach(id -> {
+			assertEquals(LicenseSupport.Status.Restricted, licenseData.get(id).getStatus());
+		});
+	}
+
+	@Test
+	void testStreamedQueries() {
+		var settings = new ISettings() {
+			@Override
+			public int getBatchSize() {
+				return 2;
+			}
+
+			@Override
+			public int getParallelism() {
+				return 4;
+			}
+		};
+		licenseChecker = Guice.createInjector(new TestLicenseToolModule(settings)).getInstance(LicenseChecker.class);
+
+		// @formatter:off
+		List<IContentId> ids = Arrays.asList(
+				ContentId.getContentId("npm/npmjs/-/write/0.2.0"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.3"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.4"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.3"),
+				ContentId.getContentId("npm/npmjs/@yarnpkg/lockfile/1.1.0"));
+		// @formatter:on
+
+		Map<IContentId, LicenseData> licenseData = new HashMap<>();
+		licenseChecker.getLicenseData(ids.stream(), data -> {
+			assertNull(licenseData.put(data.getId(), data));
+		});
+
+		assertEquals(4, licenseData.size());
+		assertEquals("CQ7766", licenseData.get(ids.get(0)).getAuthority());
+		assertEquals(LicenseSupport.Status.Approved, licenseData.get(ids.get(1)).getStatus());
+		assertEquals(LicenseSupport.Status.Approved, licenseData.get(ids.get(2)).getStatus());
+		assertEquals(LicenseSupport.Status.Restricted, licenseData.get(ids.get(4)).getStatus());
+	}
+
+	@Test
+	void testStreamedResultsArriveIncrementally() {
+		var settings = new ISettings() {
+			@Override
+			public int getBatchSize() {
+				return 1;
+			}
+		};
+		licenseChecker = Guice.createInjector(new TestLicenseToolModule(settings)).getInstance(LicenseChecker.class);
+
+		// @formatter:off
+		List<IContentId> ids = Arrays.asList(
+				ContentId.getContentId("npm/npmjs/-/write/1.0.3"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.4"),
+				ContentId.getContentId("npm/npmjs/-/write/1.0.5"));
+		// @formatter:on
+
+		var read = new AtomicInteger();
+		var readWhenReported = new ArrayList<Integer>();
+		licenseChecker.getLicenseData(ids.stream().peek(id -> read.incrementAndGet()),
+				data -> readWhenReported.add(read.get()));
+
+		// The providers grow their batch size as the (stub) servers answer quickly,
+		// so only the first batch is sure to have a single id in it.
+		assertEquals(3, readWhenReported.size());
+		assertEquals(1, readWhenReported.get(0));
+	}
+
+	@Test
+	void testProvidersArePipelined() {
+		var settings = new ISettings() {
+			@Override
+			public int getBatchSize() {
+				return 1;
+			}
+
+			@Override
+			public int getParallelism() {
+				return 1;
+			}
+		};
+
+		IContentId first = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+		IContentId second = ContentId.getContentId("npm/npmjs/-/write/1.0.4");
+
+		// The heavy provider doesn't answer for the second batch until the light
+		// provider has been asked about the first one. If the light provider had to
+		// wait for the heavy one to finish everything, we'd give up waiting.
+		var secondAnswered = new CompletableFuture<Void>();
+		var pipelined = new AtomicBoolean();
+		List<String> queries = Collections.synchronizedList(new ArrayList<>());
+
+		var heavy = new ILicenseDataProvider() {
+			@Override
+			public void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public CompletableFuture<Void> queryLicenseDataAsync(Collection<IContentId> ids,
+					Consumer<IContentData> consumer, Executor executor) {
+				ids.forEach(id -> queries.add("heavy " + id));
+				if (ids.contains(first))
+					return CompletableFuture.runAsync(() -> {},
+							CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+				return secondAnswered.completeOnTimeout(null, 5, TimeUnit.SECONDS);
+			}
+
+			@Override
+			public int getWeight() {
+				return 100;
+			}
+
+			@Override
+			public String getName() {
+				return "heavy";
+			}
+		};
+
+		var light = new ILicenseDataProvider() {
+			@Override
+			public void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+				ids.forEach(id -> queries.add("light " + id));
+				if (ids.contains(first))
+					pipelined.set(secondAnswered.complete(null));
+			}
+
+			@Override
+			public String getName() {
+				return "light";
+			}
+		};
+
+		licenseChecker = Guice.createInjector(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(ISettings.class).toInstance(settings);
+				var providers = Multibinder.newSetBinder(binder(), ILicenseDataProvider.class);
+				providers.addBinding().toInstance(heavy);
+				providers.addBinding().toInstance(light);
+			}
+		}).getInstance(LicenseChecker.class);
+
+		var licenseData = licenseChecker.getLicenseData(List.of(first, second));
+
+		assertEquals(2, licenseData.size());
+		assertTrue(pipelined.get());
+		assertEquals(4, queries.size());
+		assertTrue(queries.indexOf("heavy " + second) < queries.indexOf("light " + first));
+		assertTrue(queries.contains("light " + second));
+	}
 }
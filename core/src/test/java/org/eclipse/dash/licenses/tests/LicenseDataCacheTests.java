@@ -0,0 +1,408 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.dash.licenses.ContentId;
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.ILicenseDataProvider;
+import org.eclipse.dash.licenses.ISettings;
+import org.eclipse.dash.licenses.LicenseChecker;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.cache.CachedContentData;
+import org.eclipse.dash.licenses.cache.LicenseDataCache;
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedContentData;
+import org.eclipse.dash.licenses.http.IHttpClientService;
+import org.eclipse.dash.licenses.review.GitLabReview;
+import org.eclipse.dash.licenses.snapshot.LicenseDataSnapshot;
+import org.eclipse.dash.licenses.snapshot.LicenseDataSnapshotWriter;
+import org.eclipse.dash.licenses.snapshot.SnapshotLicenseDataProvider;
+import org.eclipse.dash.licenses.tests.util.TestLicenseToolModule;
+import org.eclipse.dash.licenses.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+
+class LicenseDataCacheTests {
+
+	@TempDir
+	Path folder;
+
+	IContentId approved = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+	IContentId restricted = ContentId.getContentId("npm/npmjs/@yarnpkg/lockfile/1.1.0");
+	IContentId unknown = ContentId.getContentId("npm/npmjs/-/unknown/1.0.0");
+
+	/**
+	 * A license data provider that keeps track of the content that it has been
+	 * asked about.
+	 */
+	class TestProvider implements ILicenseDataProvider {
+		List<IContentId> requested = new ArrayList<>();
+
+		@Override
+		public void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+			requested.addAll(ids);
+			ids.forEach(id -> {
+				if (id.equals(approved))
+					consumer.accept(new CachedContentData(id, "MIT", 100, Status.Approved, "test", "https://example.com", null));
+				if (id.equals(restricted))
+					consumer.accept(new CachedContentData(id, "BSD-2-Clause", 50, Status.Restricted, "test", null, null));
+			});
+		}
+
+		@Override
+		public String getName() {
+			return "test";
+		}
+	}
+
+	private LicenseDataCache createCache(ISettings settings) {
+		return Guice.createInjector(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(ISettings.class).toInstance(settings);
+			}
+		}).getInstance(LicenseDataCache.class);
+	}
+
+	private ISettings getSettings(File file) {
+		return new ISettings() {
+			@Override
+			public String getCacheFilePath() {
+				return file.getAbsolutePath();
+			}
+		};
+	}
+
+	private List<IContentData> query(ILicenseDataProvider provider, IContentId... ids) {
+		List<IContentData> results = new ArrayList<>();
+		provider.queryLicenseData(Arrays.asList(ids), results::add);
+		return results;
+	}
+
+	@Test
+	void testDisabled() {
+		var cache = createCache(new ISettings() {});
+		var provider = new TestProvider();
+
+		assertFalse(cache.isEnabled());
+		assertSame(provider, cache.wrap(provider));
+	}
+
+	@Test
+	void testAsyncQuery() {
+		var file = folder.resolve("cache.json").toFile();
+		var provider = new TestProvider();
+		var cache = createCache(getSettings(file));
+		var wrapped = cache.wrap(provider);
+		query(wrapped, approved);
+
+		List<IContentData> results = new ArrayList<>();
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			wrapped.queryLicenseDataAsync(Arrays.asList(approved, restricted, unknown), results::add, executor).join();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(2, results.size());
+		assertEquals(List.of(approved, restricted, unknown), provider.requested);
+
+		// Everything is in the cache now (including what the provider didn't find).
+		assertEquals(2, query(wrapped, approved, restricted, unknown).size());
+		assertEquals(3, provider.requested.size());
+	}
+
+	@Test
+	void testCacheAcrossRuns() {
+		var file = folder.resolve("cache.json").toFile();
+
+		var provider = new TestProvider();
+		var cache = createCache(getSettings(file));
+		assertEquals(2, query(cache.wrap(provider), approved, restricted, unknown).size());
+		cache.save();
+
+		assertTrue(file.exists());
+
+		provider = new TestProvider();
+		cache = createCache(getSettings(file));
+		var results = query(cache.wrap(provider), approved, restricted, unknown);
+
+		assertTrue(provider.requested.isEmpty());
+		assertEquals(2, results.size());
+
+		var data = results.get(0);
+		assertEquals(approved, data.getId());
+		assertEquals("MIT", data.getLicense());
+		assertEquals(100, data.getScore());
+		assertEquals(Status.Approved, data.getStatus());
+		assertEquals("test", data.getAuthority());
+		assertEquals("https://example.com", data.getUrl());
+
+		assertEquals(Status.Restricted, results.get(1).getStatus());
+	}
+
+	@Test
+	void testOnlyMissingContentIsRequested() {
+		var file = folder.resolve("cache.json").toFile();
+
+		var cache = createCache(getSettings(file));
+		query(cache.wrap(new TestProvider()), approved);
+
+		var provider = new TestProvider();
+		var results = query(cache.wrap(provider), approved, restricted);
+
+		assertEquals(List.of(restricted), provider.requested);
+		assertEquals(2, results.size());
+	}
+
+	@Test
+	void testExpiredEntriesAreRequested() {
+		var file = folder.resolve("cache.json").toFile();
+		var settings = new ISettings() {
+			@Override
+			public String getCacheFilePath() {
+				return file.getAbsolutePath();
+			}
+
+			@Override
+			public Duration getCacheTtl(String authority, Status status) {
+				return status == Status.Approved ? Duration.ofDays(1) : Duration.ZERO;
+			}
+		};
+
+		var cache = createCache(settings);
+		query(cache.wrap(new TestProvider()), approved, restricted, unknown);
+		cache.save();
+
+		var provider = new TestProvider();
+		cache = createCache(settings);
+		query(cache.wrap(provider), approved, restricted, unknown);
+
+		assertEquals(List.of(restricted, unknown), provider.requested);
+	}
+
+	@Test
+	void testClearlyDefinedResultsAreRestored() {
+		var file = folder.resolve("cache.json").toFile();
+		var id = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+
+		var checker = Guice.createInjector(new TestLicenseToolModule(getSettings(file)))
+				.getInstance(LicenseChecker.class);
+		assertEquals(Status.Approved, checker.getLicenseData(List.of(id)).get(id).getStatus());
+
+		/*
+		 * The next run answers everything from the cache (we can't get to the
+		 * servers) and asks for a higher score than ClearlyDefined has for the
+		 * content (94).
+		 */
+		var settings = new ISettings() {
+			@Override
+			public String getCacheFilePath() {
+				return file.getAbsolutePath();
+			}
+
+			@Override
+			public int getConfidenceThreshold() {
+				return 95;
+			}
+		};
+		checker = Guice.createInjector(new TestLicenseToolModule(settings) {
+			@Override
+			public IHttpClientService getHttpClientService() {
+				var service = super.getHttpClientService();
+				return new IHttpClientService() {
+					@Override
+					public int post(String url, String contentType, String payload, Consumer<String> handler) {
+						throw new AssertionError("Unexpected request to " + url);
+					}
+
+					@Override
+					public int get(String url, String contentType, Consumer<InputStream> handler) {
+						return service.get(url, contentType, handler);
+					}
+				};
+			}
+		}).getInstance(LicenseChecker.class);
+
+		var licenseData = checker.getLicenseData(List.of(id)).get(id);
+		assertEquals(Status.Restricted, licenseData.getStatus());
+
+		var data = (ClearlyDefinedContentData) licenseData.contentData().findFirst().get();
+		assertEquals("MIT", data.getLicense());
+		assertEquals(94, data.getScore());
+		assertEquals(97, data.getEffectiveScore());
+		assertEquals(List.of("MIT"), data.discoveredLicenses().collect(Collectors.toList()));
+
+		var description = new GitLabReview(null, null, licenseData).getDescription();
+		assertTrue(description.contains("  - Declared: MIT (94)\n"));
+		assertTrue(description.contains("  - Discovered: MIT\n"));
+	}
+
+	@Test
+	void testContentThatIsNotAskedAboutIsNotRecorded() throws Exception {
+		var file = folder.resolve("cache.json").toFile();
+
+		var unsupported = ContentId.getContentId("p2/eclipseplugin/-/write/0.2.0");
+
+		var checker = Guice.createInjector(new TestLicenseToolModule(getSettings(file)))
+				.getInstance(LicenseChecker.class);
+		checker.getLicenseData(List.of(approved, unsupported, unknown));
+
+		// ClearlyDefined doesn't support the content.
+		var cached = JsonUtils.readJson(new StringReader(Files.readString(file.toPath()))).getJsonObject("clearlydefined");
+		assertEquals(Set.of(approved.toString(), unknown.toString()), cached.keySet());
+	}
+
+	@Test
+	void testProblematicContentIsRemembered() throws Exception {
+		var file = folder.resolve("cache.json").toFile();
+		var problematic = ContentId.getContentId("npm/npmjs/breaky/mcbreakyface/1.0.0");
+
+		var checker = Guice.createInjector(new TestLicenseToolModule(getSettings(file)))
+				.getInstance(LicenseChecker.class);
+		checker.getLicenseData(List.of(approved, problematic));
+
+		// ClearlyDefined fails to answer for the content; we count that as a miss.
+		var cached = JsonUtils.readJson(new StringReader(Files.readString(file.toPath()))).getJsonObject("clearlydefined");
+		var entry = cached.getJsonObject(problematic.toString());
+		assertFalse(entry.containsKey("status"));
+		assertEquals(1, entry.getInt("misses"));
+
+		// The next run doesn't ask ClearlyDefined about it again.
+		var settings = getSettings(file);
+		checker = Guice.createInjector(new TestLicenseToolModule(settings) {
+			@Override
+			public IHttpClientService getHttpClientService() {
+				var service = super.getHttpClientService();
+				return new IHttpClientService() {
+					@Override
+					public int post(String url, String contentType, String payload, Consumer<String> handler) {
+						if (url.equals(settings.getClearlyDefinedDefinitionsUrl()) && payload.contains("breaky"))
+							throw new AssertionError("Unexpected request for " + payload);
+						return service.post(url, contentType, payload, handler);
+					}
+
+					@Override
+					public int get(String url, String contentType, Consumer<InputStream> handler) {
+						return service.get(url, contentType, handler);
+					}
+				};
+			}
+		}).getInstance(LicenseChecker.class);
+		checker.getLicenseData(List.of(problematic));
+	}
+
+	@Test
+	void testSnapshotsAreNotCached() throws Exception {
+		var file = folder.resolve("cache.json").toFile();
+		var snapshotFile = folder.resolve("clearlydefined.snapshot").toFile();
+		var writer = new LicenseDataSnapshotWriter();
+		writer.add(approved.toString(), "MIT", 100, Status.Approved, "clearlydefined", null, null);
+		writer.write(snapshotFile);
+
+		var provider = new SnapshotLicenseDataProvider("clearlydefined", 50, LicenseDataSnapshot.open(snapshotFile));
+		var cache = createCache(getSettings(file));
+		assertSame(provider, cache.wrap(provider));
+
+		query(cache.wrap(provider), approved, unknown);
+		cache.save();
+
+		assertFalse(file.exists());
+	}
+
+	@Test
+	void testCorruptCacheIsIgnored() throws Exception {
+		var file = folder.resolve("cache.json").toFile();
+		Files.writeString(file.toPath(), "This is not JSON");
+
+		var provider = new TestProvider();
+		var cache = createCache(getSettings(file));
+		query(cache.wrap(provider), approved);
+
+		assertEquals(List.of(approved), provider.requested);
+	}
+
+	@Test
+	void testUnknownContentBacksOff() throws Exception {
+		var file = folder.resolve("cache.json").toFile();
+		var settings = new ISettings() {
+			@Override
+			public String getCacheFilePath() {
+				return file.getAbsolutePath();
+			}
+
+			@Override
+			public Duration getCacheTtl(String authority, Status status) {
+				return Duration.ofHours(1);
+			}
+		};
+
+		/*
+		 * ClearlyDefined answers an empty result for content that it doesn't know
+		 * anything about.
+		 */
+		var provider = new TestProvider() {
+			@Override
+			public void queryLicenseData(Collection<IContentId> ids, Consumer<IContentData> consumer) {
+				requested.addAll(ids);
+				ids.forEach(id -> consumer.accept(new ClearlyDefinedContentData(id.toString(), JsonValue.EMPTY_JSON_OBJECT)));
+			}
+		};
+
+		// Asked three times in a row: the entry lives for four hours.
+		// Asked twice in a row: the entry lives for two hours.
+		var threeHoursAgo = System.currentTimeMillis() - Duration.ofHours(3).toMillis();
+		// @formatter:off
+		Files.writeString(file.toPath(), "{\"test\": {"
+				+ "\"" + unknown + "\": {\"timestamp\": " + threeHoursAgo + ", \"license\": \"\", \"score\": 0, \"status\": \"restricted\", \"misses\": 3},"
+				+ "\"" + restricted + "\": {\"timestamp\": " + threeHoursAgo + ", \"license\": \"\", \"score\": 0, \"status\": \"restricted\", \"misses\": 2}"
+				+ "}}");
+		// @formatter:on
+
+		var cache = createCache(settings);
+		query(cache.wrap(provider), unknown, restricted, approved);
+		cache.save();
+
+		assertEquals(List.of(restricted, approved), provider.requested);
+
+		try (var reader = Json.createReader(Files.newBufferedReader(file.toPath()))) {
+			var entries = reader.readObject().getJsonObject("test");
+			assertEquals(3, entries.getJsonObject(unknown.toString()).getInt("misses"));
+			assertEquals(3, entries.getJsonObject(restricted.toString()).getInt("misses"));
+			assertEquals(1, entries.getJsonObject(approved.toString()).getInt("misses"));
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.dash.licenses.ContentId;
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.ILicenseDataProvider;
+import org.eclipse.dash.licenses.ISettings;
+import org.eclipse.dash.licenses.LicenseChecker;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedContentData;
+import org.eclipse.dash.licenses.clearlydefined.ClearlyDefinedSupport;
+import org.eclipse.dash.licenses.foundation.EclipseFoundationSupport;
+import org.eclipse.dash.licenses.snapshot.LicenseDataSnapshot;
+import org.eclipse.dash.licenses.snapshot.LicenseDataSnapshotWriter;
+import org.eclipse.dash.licenses.snapshot.SnapshotLicenseDataProvider;
+import org.eclipse.dash.licenses.tests.util.TestLicenseToolModule;
+import org.eclipse.dash.licenses.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import jakarta.json.Json;
+
+class LicenseDataSnapshotTests {
+
+	@TempDir
+	Path folder;
+
+	@Test
+	void testRoundTrip() throws IOException {
+		var writer = new LicenseDataSnapshotWriter();
+		writer.add("npm/npmjs/-/write/1.0.3", "MIT", 100, Status.Approved, "clearlydefined",
+				"https://clearlydefined.io/definitions/npm/npmjs/-/write/1.0.3", null);
+		writer.add("npm/npmjs/@yarnpkg/lockfile/1.1.0", "BSD-2-Clause AND Ünïcödé", 50, Status.Restricted, null,
+				null, "https://example.com/source");
+
+		var file = folder.resolve("test.snapshot").toFile();
+		writer.write(file);
+
+		var snapshot = LicenseDataSnapshot.open(file);
+		assertEquals(2, snapshot.size());
+
+		var id = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+		var data = snapshot.get(id);
+		assertSame(id, data.getId());
+		assertEquals("MIT", data.getLicense());
+		assertEquals(100, data.getScore());
+		assertEquals(Status.Approved, data.getStatus());
+		assertEquals("clearlydefined", data.getAuthority());
+		assertEquals("https://clearlydefined.io/definitions/npm/npmjs/-/write/1.0.3", data.getUrl());
+		assertNull(data.getSourceUrl());
+
+		data = snapshot.get(ContentId.getContentId("npm/npmjs/@yarnpkg/lockfile/1.1.0"));
+		assertEquals("BSD-2-Clause AND Ünïcödé", data.getLicense());
+		assertEquals(50, data.getScore());
+		assertEquals(Status.Restricted, data.getStatus());
+		assertNull(data.getAuthority());
+		assertNull(data.getUrl());
+		assertEquals("https://example.com/source", data.getSourceUrl());
+	}
+
+	@Test
+	void testMissing() throws IOException {
+		var writer = new LicenseDataSnapshotWriter();
+		writer.add("npm/npmjs/-/b/1.0.0", "MIT", 100, Status.Approved, "test", null, null);
+
+		var file = folder.resolve("test.snapshot").toFile();
+		writer.write(file);
+
+		var snapshot = LicenseDataSnapshot.open(file);
+		assertNull(snapshot.get(ContentId.getContentId("npm/npmjs/-/a/1.0.0")));
+		assertNull(snapshot.get(ContentId.getContentId("npm/npmjs/-/b/1.0.1")));
+		assertNull(snapshot.get(ContentId.getContentId("npm/npmjs/-/c/1.0.0")));
+	}
+
+	@Test
+	void testEmpty() throws IOException {
+		var file = folder.resolve("test.snapshot").toFile();
+		new LicenseDataSnapshotWriter().write(file);
+
+		var snapshot = LicenseDataSnapshot.open(file);
+		assertEquals(0, snapshot.size());
+		assertNull(snapshot.get(ContentId.getContentId("npm/npmjs/-/a/1.0.0")));
+	}
+
+	@Test
+	void testNotASnapshot() throws IOException {
+		var file = folder.resolve("test.snapshot");
+		Files.writeString(file, "{}");
+
+		assertThrows(IllegalArgumentException.class, () -> LicenseDataSnapshot.open(file.toFile()));
+	}
+
+	@Test
+	void testWriteFromExport() throws IOException {
+		// @formatter:off
+		var export = Json.createObjectBuilder()
+			.add("eclipse", Json.createObjectBuilder()
+				.add("npm/npmjs/-/write/1.0.3", Json.createObjectBuilder()
+					.add("timestamp", 1)
+					.add("license", "MIT")
+					.add("score", 100)
+					.add("status", "approved")
+					.add("authority", "CQ1234"))
+				.add("npm/npmjs/-/unknown/1.0.0", Json.createObjectBuilder()
+					.add("timestamp", 1)))
+			.add("clearlydefined", Json.createObjectBuilder()
+				.add("npm/npmjs/-/write/1.0.3", Json.createObjectBuilder()
+					.add("timestamp", 1)
+					.add("license", "MIT")
+					.add("score", 97)
+					.add("status", "approved")
+					.add("authority", "clearlydefined")))
+			.build();
+		// @formatter:on
+
+		var directory = folder.resolve("snapshots").toFile();
+		assertEquals(Map.of("eclipse", 1, "clearlydefined", 1), LicenseDataSnapshotWriter.write(export, directory));
+
+		var injector = Guice.createInjector(new TestLicenseToolModule());
+		var providers = SnapshotLicenseDataProvider.getProviders(directory,
+				name -> getProvider(injector, name));
+		assertEquals(2, providers.size());
+		assertEquals("clearlydefined", providers.get(0).getName());
+		assertEquals(ClearlyDefinedSupport.WEIGHT, providers.get(0).getWeight());
+		assertEquals("eclipse", providers.get(1).getName());
+		assertEquals(EclipseFoundationSupport.WEIGHT, providers.get(1).getWeight());
+
+		List<IContentData> results = new ArrayList<>();
+		providers.get(1).queryLicenseData(List.of(ContentId.getContentId("npm/npmjs/-/write/1.0.3"),
+				ContentId.getContentId("npm/npmjs/-/unknown/1.0.0")), results::add);
+
+		assertEquals(1, results.size());
+		assertEquals("CQ1234", results.get(0).getAuthority());
+		assertEquals(Status.Approved, results.get(0).getStatus());
+	}
+
+	private ILicenseDataProvider getProvider(Injector injector, String name) {
+		switch (name) {
+		case EclipseFoundationSupport.ECLIPSE:
+			return injector.getInstance(EclipseFoundationSupport.class);
+		case ClearlyDefinedContentData.CLEARLYDEFINED:
+			return injector.getInstance(ClearlyDefinedSupport.class);
+		default:
+			return null;
+		}
+	}
+
+	@Test
+	void testStatusFollowsSettings() throws IOException {
+		var cache = folder.resolve("cache.json").toFile();
+		var id = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+
+		// Build the snapshots from the cache of a run against the servers.
+		var settings = new ISettings() {
+			@Override
+			public String getCacheFilePath() {
+				return cache.getAbsolutePath();
+			}
+		};
+		Guice.createInjector(new TestLicenseToolModule(settings)).getInstance(LicenseChecker.class)
+				.getLicenseData(List.of(id));
+
+		var directory = folder.resolve("snapshots").toFile();
+		try (var reader = Files.newBufferedReader(cache.toPath())) {
+			LicenseDataSnapshotWriter.write(JsonUtils.readJson(reader), directory);
+		}
+
+		// Ask for a higher score than ClearlyDefined has for the content (94).
+		var strict = new ISettings() {
+			@Override
+			public int getConfidenceThreshold() {
+				return 95;
+			}
+		};
+		var injector = Guice.createInjector(new TestLicenseToolModule(strict));
+		var provider = SnapshotLicenseDataProvider.getProviders(new File(directory, "clearlydefined.snapshot"),
+				name -> getProvider(injector, name)).get(0);
+
+		List<IContentData> results = new ArrayList<>();
+		provider.queryLicenseData(List.of(id), results::add);
+
+		var data = (ClearlyDefinedContentData) results.get(0);
+		assertEquals(Status.Restricted, data.getStatus());
+		assertEquals(94, data.getScore());
+		assertEquals(List.of("MIT"), data.discoveredLicenses().collect(Collectors.toList()));
+	}
+
+	@Test
+	void testManyLookups() throws IOException {
+		var writer = new LicenseDataSnapshotWriter();
+		List<IContentId> ids = new ArrayList<>();
+		for (int index = 0; index < 10_000; index++) {
+			var id = "maven/mavencentral/org.example/artifact" + index + "/1." + (index % 17) + ".0";
+			writer.add(id, "EPL-2.0", 100, Status.Approved, "test", null, null);
+			ids.add(ContentId.getContentId(id));
+		}
+
+		File file = folder.resolve("test.snapshot").toFile();
+		writer.write(file);
+
+		var provider = new SnapshotLicenseDataProvider("test", 50, LicenseDataSnapshot.open(file));
+		List<IContentData> results = new ArrayList<>();
+		provider.queryLicenseData(ids, results::add);
+
+		assertEquals(10_000, results.size());
+		for (int index = 0; index < ids.size(); index++) {
+			assertSame(ids.get(index), results.get(index).getId());
+		}
+	}
+}
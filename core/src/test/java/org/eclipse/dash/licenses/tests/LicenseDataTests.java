@@ -0,0 +1,97 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import org.eclipse.dash.licenses.ContentId;
+import org.eclipse.dash.licenses.IContentData;
+import org.eclipse.dash.licenses.IContentId;
+import org.eclipse.dash.licenses.LicenseData;
+import org.eclipse.dash.licenses.LicenseSupport.Status;
+import org.eclipse.dash.licenses.cache.CachedContentData;
+import org.junit.jupiter.api.Test;
+
+class LicenseDataTests {
+
+	IContentId id = ContentId.getContentId("npm/npmjs/-/write/1.0.3");
+
+	private IContentData getContentData(String authority, Status status) {
+		return new CachedContentData(id, "MIT", 100, status, authority, null, null);
+	}
+
+	@Test
+	void testNoContentData() {
+		var licenseData = new LicenseData(id);
+
+		assertEquals(Status.Restricted, licenseData.getStatus());
+		assertNull(licenseData.getLicense());
+		assertEquals(0, licenseData.contentData().count());
+	}
+
+	@Test
+	void testHeaviestProviderWins() {
+		var licenseData = new LicenseData(id);
+		licenseData.addContentData(getContentData("light", Status.Approved), 50);
+		licenseData.addContentData(getContentData("heavy", Status.Restricted), 100);
+		licenseData.addContentData(getContentData("lighter", Status.Approved), 10);
+
+		assertEquals("heavy", licenseData.getAuthority());
+		assertEquals(Status.Restricted, licenseData.getStatus());
+		assertEquals(List.of("heavy", "light", "lighter"),
+				licenseData.contentData().map(IContentData::getAuthority).collect(Collectors.toList()));
+	}
+
+	@Test
+	void testSameWeightKeepsArrivalOrder() {
+		var licenseData = new LicenseData(id);
+		licenseData.addContentData(getContentData("first", Status.Approved));
+		licenseData.addContentData(getContentData("second", Status.Restricted));
+
+		assertEquals("first", licenseData.getAuthority());
+		assertEquals(List.of("first", "second"),
+				licenseData.contentData().map(IContentData::getAuthority).collect(Collectors.toList()));
+	}
+
+	@Test
+	void testConcurrentAdds() throws InterruptedException {
+		var licenseData = new LicenseData(id);
+		var start = new CountDownLatch(1);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int thread = 0; thread < 8; thread++) {
+			int weight = thread;
+			threads.add(new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int index = 0; index < 1000; index++) {
+					licenseData.addContentData(getContentData(String.valueOf(weight), Status.Approved), weight);
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(8000, licenseData.contentData().count());
+		assertEquals("7", licenseData.getAuthority());
+	}
+}
@@ -10,14 +10,24 @@
 package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.eclipse.dash.licenses.LicenseSupport;
+import org.eclipse.dash.licenses.http.IHttpClientService;
 import org.eclipse.dash.licenses.tests.util.TestLicenseToolModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.util.Modules;
 
 class LicenseSupportTests {
 
@@ -98,4 +108,43 @@ class LicenseSupportTests {
 	void testComplexRestricted() {
 		assertEquals(LicenseSupport.Status.Restricted, licenseSupport.getStatus("(EPL-2.0 OR MIT) AND GPL-2.0"));
 	}
+
+	@Test
+	void testRepeatedExpressionsAreShared() {
+		assertSame(licenseSupport.getExpression("EPL-2.0 OR MIT"), licenseSupport.getExpression("EPL-2.0 OR MIT"));
+		assertSame(licenseSupport.getExpression("EPL-2.0 OR MIT"), licenseSupport.getExpression(" EPL-2.0 OR MIT "));
+		assertEquals(LicenseSupport.Status.Approved, licenseSupport.getStatus(" EPL-2.0 OR MIT "));
+	}
+
+	/**
+	 * The status of an expression must be determined again when the approved
+	 * licenses change.
+	 */
+	@Test
+	void testReloadApprovedLicenses() {
+		AtomicReference<String> approved = new AtomicReference<>("{\"approved\":{\"MIT\":\"MIT License\"}}");
+		Injector injector = Guice
+				.createInjector(Modules.override(new TestLicenseToolModule()).with(new AbstractModule() {
+					@Override
+					protected void configure() {
+						bind(IHttpClientService.class).toInstance(new IHttpClientService() {
+							@Override
+							public int get(String url, String contentType, Consumer<InputStream> handler) {
+								handler.accept(new ByteArrayInputStream(approved.get().getBytes(StandardCharsets.UTF_8)));
+								return 200;
+							}
+						});
+					}
+				}));
+		licenseSupport = injector.getInstance(LicenseSupport.class);
+
+		assertEquals(LicenseSupport.Status.Approved, licenseSupport.getStatus("MIT"));
+		assertEquals(LicenseSupport.Status.Restricted, licenseSupport.getStatus("EPL-2.0"));
+
+		approved.set("{\"approved\":{\"EPL-2.0\":\"Eclipse Public License 2.0\"}}");
+		licenseSupport.init();
+
+		assertEquals(LicenseSupport.Status.Restricted, licenseSupport.getStatus("MIT"));
+		assertEquals(LicenseSupport.Status.Approved, licenseSupport.getStatus("EPL-2.0"));
+	}
 }
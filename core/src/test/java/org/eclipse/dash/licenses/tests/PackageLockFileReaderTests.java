@@ -10,12 +10,15 @@
 package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.stream.Collectors;
@@ -25,6 +28,8 @@ import org.eclipse.dash.licenses.IContentId;
 import org.eclipse.dash.licenses.cli.PackageLockFileReader;
 import org.junit.jupiter.api.Test;
 
+import jakarta.json.JsonException;
+
 class PackageLockFileReaderTests {
 
 	private static final String PACKAGE_LOCK_JSON = "/test_data_package-lock.json";
@@ -157,4 +162,33 @@ class PackageLockFileReaderTests {
 			assertArrayEquals(expected, found);
 		}
 	}
+
+	@Test
+	void testV1NestedDependencies() {
+		// @formatter:off
+		var json = "{\"lockfileVersion\": 1, \"dependencies\": {"
+				+ "\"a\": {\"version\": \"1.0.0\", \"requires\": {\"b\": \"^2.0.0\"}, \"dependencies\": {"
+				+ "  \"b\": {\"version\": \"2.0.0\", \"dependencies\": {\"@scope/c\": {\"version\": \"3.0.0\"}}}}},"
+				+ "\"d\": {\"dependencies\": {\"e\": {\"version\": \"5.0.0\"}}, \"version\": \"4.0.0\"}"
+				+ "}}";
+		// @formatter:on
+		var reader = new PackageLockFileReader(new StringReader(json));
+
+		String[] expected = { "npm/npmjs/-/a/1.0.0", "npm/npmjs/-/b/2.0.0", "npm/npmjs/@scope/c/3.0.0",
+				"npm/npmjs/-/d/4.0.0", "npm/npmjs/-/e/5.0.0" };
+		String[] found = reader.contentIds().map(IContentId::toString).sorted().toArray(String[]::new);
+		Arrays.sort(expected);
+		assertArrayEquals(expected, found);
+	}
+
+	@Test
+	void testContentIdsAreProducedLazily() {
+		// The second entry is broken; we should get the first content id before we
+		// encounter it.
+		var json = "{\"lockfileVersion\": 3, \"packages\": {\"node_modules/a\": {\"version\": \"1.0.0\"}, \"node_modules/b\": [}}";
+		var ids = new PackageLockFileReader(new StringReader(json)).contentIds().iterator();
+
+		assertEquals("npm/npmjs/-/a/1.0.0", ids.next().toString());
+		assertThrows(JsonException.class, () -> ids.next());
+	}
 }
@@ -10,7 +10,9 @@
 package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.dash.licenses.PackageUrlIdParser;
 import org.junit.jupiter.api.Test;
@@ -42,6 +44,16 @@ class PackageUrlIdParserTests {
 		assertNull(new PackageUrlIdParser().parseId("highlight@7.5.0"));
 	}
 
+	@Test
+	void testIsCandidate() {
+		var parser = new PackageUrlIdParser();
+		assertTrue(parser.isCandidate("pkg:npm/foobar@12.3.1"));
+		assertTrue(parser.isCandidate("npm:foobar@12.3.1"));
+		assertFalse(parser.isCandidate("highlight@7.5.0"));
+		assertFalse(parser.isCandidate("github.com/go-yaml/yaml v2.1.0 h1:RYi2hDdss1u4YE7GwixGzWwVo47T8UQwnTLB6vQiq+o="));
+		assertFalse(parser.isCandidate(" pkg:npm/foobar@12.3.1"));
+	}
+
 	@Test
 	void testBasic3() {
 		assertEquals("git/github/itm/shawn%23src%2Fapps%2Ftcpip/45ff42d775dd72ab6819524988031719a75b206a",
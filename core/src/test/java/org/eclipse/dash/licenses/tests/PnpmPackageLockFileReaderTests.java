@@ -11,6 +11,8 @@ package org.eclipse.dash.licenses.tests;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -18,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 
@@ -138,6 +141,55 @@ class PnpmPackageLockFileReaderTests {
 		}
 	}
 
+	@Test
+	void testOnlyPackageKeysAreRead() {
+		// @formatter:off
+		var yaml = "lockfileVersion: '9.0'\n"
+				+ "importers:\n"
+				+ "  .:\n"
+				+ "    dependencies:\n"
+				+ "      ignored@1.0.0:\n"
+				+ "        version: 1.0.0\n"
+				+ "packages:\n"
+				+ "  '@scope/a@1.0.0':\n"
+				+ "    resolution: {integrity: sha512-a}\n"
+				+ "    engines: [node]\n"
+				+ "  b@2.0.0:\n"
+				+ "    resolution: {integrity: sha512-b}\n"
+				+ "snapshots:\n"
+				+ "  b@2.0.0(@scope/a@1.0.0):\n"
+				+ "    dependencies:\n"
+				+ "      '@scope/a': 1.0.0\n";
+		// @formatter:on
+		var reader = new PnpmPackageLockFileReader(new StringReader(yaml));
+
+		String[] found = reader.contentIds().map(IContentId::toString).toArray(String[]::new);
+		assertArrayEquals(new String[] { "npm/npmjs/@scope/a/1.0.0", "npm/npmjs/-/b/2.0.0" }, found);
+	}
+
+	@Test
+	void testContentIdsAreProducedLazily() {
+		// The second entry is broken; we should get the first content id before we
+		// encounter it.
+		var yaml = "packages:\n  a@1.0.0:\n    dev: false\n  b@2.0.0: [\n";
+		var ids = new PnpmPackageLockFileReader(new StringReader(yaml)).contentIds().iterator();
+
+		assertEquals("npm/npmjs/-/a/1.0.0", ids.next().toString());
+		assertThrows(RuntimeException.class, () -> ids.next());
+	}
+
+	@Test
+	void testConsumerExceptionsAreNotReported() {
+		var yaml = "packages:\n  a@1.0.0:\n    dev: false\n";
+		var reader = new PnpmPackageLockFileReader(new StringReader(yaml));
+		var failure = new IllegalArgumentException("From the consumer");
+
+		var exception = assertThrows(IllegalArgumentException.class, () -> reader.contentIds().forEach(id -> {
+			throw failure;
+		}));
+		assertSame(failure, exception);
+	}
+
 	@Test
 	void shouldReturnErrorForInvalidYamlfile() {
 		InputStream input = new ByteArrayInputStream("invalid".getBytes(Charset.defaultCharset()));
@@ -145,6 +197,7 @@ class PnpmPackageLockFileReaderTests {
 
 		Exception exception = assertThrows(RuntimeException.class, reader::getContentIds);
 		assertEquals("Error reading content of package-lock.yaml file", exception.getMessage());
+		assertNotNull(exception.getCause());
 	}
 
 	@Test
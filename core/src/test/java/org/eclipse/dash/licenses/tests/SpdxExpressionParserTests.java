@@ -13,10 +13,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.eclipse.dash.licenses.spdx.SpdxApprovedLicenses;
 import org.eclipse.dash.licenses.spdx.SpdxExpression;
 import org.eclipse.dash.licenses.spdx.SpdxExpressionParser;
 import org.eclipse.dash.licenses.spdx.SpdxIdentifier;
@@ -343,6 +345,30 @@ class SpdxExpressionParserTests {
 			assertTrue(new SpdxExpressionParser().parse("EPL-1.0+").matchesApproved(approved));
 		}
 
+		@Test
+		void testMatchCaseInsensitive() {
+			var approved = SpdxApprovedLicenses.of(Arrays.asList("epl-2.0", "APACHE-2.0"));
+
+			assertTrue(new SpdxExpressionParser().parse("EPL-2.0 AND apache-2.0").matchesApproved(approved));
+			assertFalse(new SpdxExpressionParser().parse("EPL-2.0 AND MIT").matchesApproved(approved));
+		}
+
+		@Test
+		void testApprovedLicenses() {
+			var approved = SpdxApprovedLicenses.of(Arrays.asList("EPL-2.0", "epl-2.0", "Apache-2.0"));
+
+			assertEquals(2, approved.size());
+			assertTrue(approved.contains("EPL-2.0"));
+			assertTrue(approved.contains("Epl-2.0"));
+			assertTrue(approved.contains("APACHE-2.0"));
+			assertFalse(approved.contains("EPL-1.0"));
+		}
+
+		@Test
+		void testMatchEmpty() {
+			assertFalse(new SpdxExpressionParser().parse("EPL-2.0").matchesApproved(SpdxApprovedLicenses.EMPTY));
+		}
+
 		@Disabled
 		@Test
 		void testMatchPlus2() {
@@ -0,0 +1,77 @@
+/*************************************************************************
+ * Copyright (c) 2026 The Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution, and is available at https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *************************************************************************/
+package org.eclipse.dash.licenses.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.dash.licenses.util.Futures;
+import org.eclipse.dash.licenses.util.Throttle;
+import org.junit.jupiter.api.Test;
+
+class ThrottleTests {
+
+	@Test
+	void testLimit() {
+		var throttle = new Throttle(2);
+		List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+		List<Integer> started = new ArrayList<>();
+		List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+		for (int index = 0; index < 4; index++) {
+			int value = index;
+			var task = new CompletableFuture<Integer>();
+			tasks.add(task);
+			results.add(throttle.submit(() -> {
+				started.add(value);
+				return task;
+			}));
+		}
+
+		assertEquals(List.of(0, 1), started);
+
+		tasks.get(1).complete(1);
+		assertEquals(List.of(0, 1, 2), started);
+		assertEquals(1, results.get(1).join());
+		assertFalse(results.get(0).isDone());
+
+		tasks.get(0).complete(0);
+		tasks.get(2).complete(2);
+		tasks.get(3).complete(3);
+		assertEquals(List.of(0, 1, 2, 3), started);
+		for (int index = 0; index < 4; index++) {
+			assertEquals(index, results.get(index).join());
+		}
+	}
+
+	@Test
+	void testFailure() {
+		var throttle = new Throttle(1);
+		var failed = throttle.<Void>submit(() -> {
+			throw new IllegalStateException();
+		});
+		var next = throttle.submit(() -> CompletableFuture.completedFuture("next"));
+
+		assertTrue(failed.isCompletedExceptionally());
+		assertThrows(IllegalStateException.class, () -> Futures.join(failed));
+		assertEquals("next", next.join());
+	}
+
+	@Test
+	void testInvalidLimit() {
+		assertThrows(IllegalArgumentException.class, () -> new Throttle(0));
+	}
+}
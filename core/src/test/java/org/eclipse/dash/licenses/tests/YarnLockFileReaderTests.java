@@ -148,6 +148,56 @@ class YarnLockFileReaderTests {
 		assertFalse(id.isValid());
 	}
 
+	@Test
+	void testBerry() throws IOException {
+		// @formatter:off
+		String contents = 
+			"# This file is generated by running \"yarn install\" inside your project.\n"
+			+ "# Manual changes might be lost - proceed with caution!\n"
+			+ "\n"
+			+ "__metadata:\n"
+			+ "  version: 6\n"
+			+ "  cacheKey: 8\n"
+			+ "\n"
+			+ "\"@babel/code-frame@npm:^7.0.0, @babel/code-frame@npm:^7.10.4\":\n"
+			+ "  version: 7.12.13\n"
+			+ "  resolution: \"@babel/code-frame@npm:7.12.13\"\n"
+			+ "  dependencies:\n"
+			+ "    \"@babel/highlight\": ^7.12.13\n"
+			+ "  languageName: node\n"
+			+ "  linkType: hard\n"
+			+ "\n"
+			+ "\"@vue/vue-loader-v15@npm:vue-loader@^15.9.7\":\n"
+			+ "  version: 15.9.8\n"
+			+ "  resolution: \"vue-loader@npm:15.9.8\"\n"
+			+ "  languageName: node\n"
+			+ "  linkType: hard\n"
+			+ "\n"
+			+ "\"resolve@patch:resolve@npm%3A^1.22.1#~builtin<compat/resolve>\":\n"
+			+ "  version: 1.22.1\n"
+			+ "  resolution: \"resolve@patch:resolve@npm%3A1.22.1#~builtin<compat/resolve>::version=1.22.1&hash=07638b\"\n"
+			+ "  languageName: node\n"
+			+ "  linkType: hard\n"
+			+ "\n"
+			+ "\"my-project@workspace:.\":\n"
+			+ "  version: 0.0.0-use.local\n"
+			+ "  resolution: \"my-project@workspace:.\"\n"
+			+ "  languageName: unknown\n"
+			+ "  linkType: soft\n"
+			+ "\n"
+			+ "\"my-library@https://github.com/example/my-library.git\":\n"
+			+ "  version: 1.0.0\n"
+			+ "  resolution: \"my-library@https://github.com/example/my-library.git#commit=abc123\"\n";
+		// @formatter:on
+
+		var ids = new YarnLockFileReader(new StringReader(contents)).getContentIds();
+
+		assertEquals(3, ids.size());
+		assertEquals("npm/npmjs/@babel/code-frame/7.12.13", ids.get(0).toString());
+		assertEquals("npm/npmjs/-/vue-loader/15.9.8", ids.get(1).toString());
+		assertFalse(ids.get(2).isValid());
+	}
+
 	@Nested
 	class Yarn2Tests {
 
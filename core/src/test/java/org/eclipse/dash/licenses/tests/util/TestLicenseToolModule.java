@@ -40,8 +40,12 @@ public class TestLicenseToolModule extends AbstractModule {
 	private ISettings settings;
 
 	public TestLicenseToolModule() {
-		this.settings = new ISettings() {
-		};
+		this(new ISettings() {
+		});
+	}
+
+	public TestLicenseToolModule(ISettings settings) {
+		this.settings = settings;
 	}
 
 	@Override
@@ -126,6 +126,14 @@ public class LicenseCheckMojo extends AbstractArtifactFilteringMojo {
 	@Parameter(property = "dash.licenses", defaultValue = ISettings.DEFAULT_APPROVED_LICENSES_URL)
 	private String licenses;
 
+	/**
+	 * Local copy of the list of approved licenses. The list is only downloaded
+	 * again when it has changed; the local copy is used when the list cannot be
+	 * downloaded.
+	 */
+	@Parameter(property = "dash.licensesCache", defaultValue = "${settings.localRepository}/.cache/dash-licenses/licenses.json")
+	private File licensesCache;
+
 	/**
 	 * Confidence threshold expressed as integer percentage. (0-100)
 	 */
@@ -189,7 +197,7 @@ public class LicenseCheckMojo extends AbstractArtifactFilteringMojo {
 		// Validate the user-given dash license tool settings
 		ISettings settings;
 		try {
-			settings = new MavenSettings(batch, foundationApi, clearlyDefinedApi, licenses, confidence, projectId, iplabToken, repo);
+			settings = new MavenSettings(batch, foundationApi, clearlyDefinedApi, licenses, confidence, projectId, iplabToken, repo, licensesCache == null ? null : licensesCache.getAbsolutePath());
 		} catch (IllegalArgumentException e) {
 			throw new MojoExecutionException("Invalid setting: " + e.getMessage());
 		}
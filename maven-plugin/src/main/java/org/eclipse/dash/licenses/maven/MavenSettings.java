@@ -35,18 +35,22 @@ public class MavenSettings implements ISettings {
 
 	private String repository;
 
+	private String licensesCache;
+
 	/**
 	 * Creates a valid settings instance.
 	 * @param iplabToken 
 	 * @param projectId 
 	 * @param repo 
+	 * @param licensesCache 
 	 * 
 	 * @throws IllegalArgumentException if the batch or confidence values are out of
 	 *                                  range, or if any of the strings cannot be
 	 *                                  parsed as a valid URI
 	 */
-	public MavenSettings(int batch, String foundationApi, String clearlyDefinedApi, String licenses, int confidence, String projectId, String iplabToken, String repo) {
+	public MavenSettings(int batch, String foundationApi, String clearlyDefinedApi, String licenses, int confidence, String projectId, String iplabToken, String repo, String licensesCache) {
 		this.iplabToken = iplabToken;
+		this.licensesCache = licensesCache;
 		this.projectId = projectId;
 		this.repository = repo;
 		if (batch < 0) {
@@ -86,6 +90,11 @@ public class MavenSettings implements ISettings {
 		return licenses;
 	}
 
+	@Override
+	public String getApprovedLicensesCachePath() {
+		return licensesCache;
+	}
+
 	@Override
 	public int getConfidenceThreshold() {
 		return confidence;